@@ -0,0 +1,103 @@
+package com.inter.campuscrafter.benchmarks;
+
+import com.inter.campuscrafter.entities.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class BenchmarkData {
+    static final String TEACHER_ID = "655f76a5c75dc0165ef40001";
+    static final String STUDENT_ID = "655f76a5c75dc0165ef40002";
+
+    private BenchmarkData() {
+    }
+
+    static Course course(int index) {
+        Course course = new Course();
+        course.setId("655f76a5c75dc0165ef4" + String.format("%04d", index % 10_000));
+        course.setTitle("Course " + index);
+        course.setDescription("Description of course " + index);
+        course.setTeacherId(TEACHER_ID);
+        course.setStartDate(LocalDate.now());
+        course.setCredits(5);
+        course.setEnrollmentLimit(120);
+        course.setStatus(CourseStatus.ACTIVE);
+        return course;
+    }
+
+    static List<Course> courses(int count) {
+        return IntStream.range(0, count).mapToObj(BenchmarkData::course).toList();
+    }
+
+    static Assignment assignment() {
+        Assignment assignment = new Assignment();
+        assignment.setId("655f76a5c75dc0165ef40100");
+        assignment.setTitle("Assignment");
+        assignment.setContent("Assignment content");
+        assignment.setDueDate(LocalDateTime.now().plusDays(7));
+        assignment.setCourseId("655f76a5c75dc0165ef40000");
+        assignment.setPostedDate(LocalDateTime.now());
+        assignment.setMaxScore(100);
+        assignment.setSubmissionFormat("pdf");
+        return assignment;
+    }
+
+    static Grade grade(int index) {
+        Grade grade = new Grade();
+        grade.setId("655f76a5c75dc0165ef5" + String.format("%04d", index % 10_000));
+        grade.setStudentId(STUDENT_ID);
+        grade.setAssignmentId("655f76a5c75dc0165ef40100");
+        grade.setScore(index % 101);
+        grade.setFeedback("Feedback " + index);
+        grade.setSubmissionDate(LocalDateTime.now());
+        return grade;
+    }
+
+    static List<Grade> grades(int count) {
+        return IntStream.range(0, count).mapToObj(BenchmarkData::grade).toList();
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(STUDENT_ID);
+        user.setName("Default Student");
+        user.setEmail("default.student@example.com");
+        user.setUserRole(UserRole.STUDENT);
+        user.setDateJoined(LocalDateTime.now());
+        user.setLastLogin(LocalDateTime.now());
+        user.setBio("Bio");
+        return user;
+    }
+
+    static Transcript transcript(int courseCount) {
+        Transcript transcript = new Transcript();
+        transcript.setStudentId(STUDENT_ID);
+
+        for (int i = 0; i < courseCount; i++) {
+            Transcript.CourseResult courseResult = new Transcript.CourseResult();
+            courseResult.setCourseId(course(i).getId());
+            courseResult.setTitle("Course " + i);
+            courseResult.setCredits(5);
+            courseResult.setGradedAssignments(4);
+            courseResult.setEarnedPoints(320 + i % 80);
+            courseResult.setPossiblePoints(400);
+            courseResult.setPercentage(courseResult.getEarnedPoints() * 100.0 / courseResult.getPossiblePoints());
+            transcript.getCourses().add(courseResult);
+        }
+
+        transcript.setTotalCredits(5 * courseCount);
+        transcript.setWeightedPercentage(87.5);
+        transcript.setUpdatedAt(LocalDateTime.now());
+        return transcript;
+    }
+
+    static DeletionTask deletionTask() {
+        DeletionTask deletionTask = new DeletionTask(DeletionTarget.COURSE, "655f76a5c75dc0165ef40000");
+        deletionTask.setId("655f76a5c75dc0165ef40200");
+        deletionTask.setDeletedCount(1_000);
+        deletionTask.setAttempts(1);
+        return deletionTask;
+    }
+}
@@ -0,0 +1,141 @@
+package com.inter.campuscrafter.benchmarks;
+
+import com.inter.campuscrafter.dtos.*;
+import com.inter.campuscrafter.entities.*;
+import com.inter.campuscrafter.mappers.*;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+    private static final int LIST_SIZE = 10_000;
+    private static final int TRANSCRIPT_COURSES = 40;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final AssignmentMapper assignmentMapper = new AssignmentMapper();
+    private final GradeMapper gradeMapper = new GradeMapper();
+    private final UserMapper userMapper = new UserMapper();
+    private final TranscriptMapper transcriptMapper = new TranscriptMapper();
+    private final DeletionTaskMapper deletionTaskMapper = new DeletionTaskMapper();
+
+    private Course course;
+    private Assignment assignment;
+    private Grade grade;
+    private User user;
+    private Transcript transcript;
+    private DeletionTask deletionTask;
+    private List<Course> courses;
+    private List<Grade> grades;
+
+    @Setup
+    public void setUp() {
+        course = BenchmarkData.course(0);
+        assignment = BenchmarkData.assignment();
+        grade = BenchmarkData.grade(0);
+        user = BenchmarkData.user();
+        transcript = BenchmarkData.transcript(TRANSCRIPT_COURSES);
+        deletionTask = BenchmarkData.deletionTask();
+        courses = BenchmarkData.courses(LIST_SIZE);
+        grades = BenchmarkData.grades(LIST_SIZE);
+    }
+
+    @Benchmark
+    public CourseDto modelMapperCourse() {
+        return modelMapper.map(course, CourseDto.class);
+    }
+
+    @Benchmark
+    public CourseDto mapperCourse() {
+        return courseMapper.toDto(course);
+    }
+
+    @Benchmark
+    public AssignmentDto modelMapperAssignment() {
+        return modelMapper.map(assignment, AssignmentDto.class);
+    }
+
+    @Benchmark
+    public AssignmentDto mapperAssignment() {
+        return assignmentMapper.toDto(assignment);
+    }
+
+    @Benchmark
+    public GradeDto modelMapperGrade() {
+        return modelMapper.map(grade, GradeDto.class);
+    }
+
+    @Benchmark
+    public GradeDto mapperGrade() {
+        return gradeMapper.toDto(grade);
+    }
+
+    @Benchmark
+    public UserDto modelMapperUser() {
+        return modelMapper.map(user, UserDto.class);
+    }
+
+    @Benchmark
+    public UserDto mapperUser() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public CourseSummaryDto modelMapperCourseSummary() {
+        return modelMapper.map(course, CourseSummaryDto.class);
+    }
+
+    @Benchmark
+    public CourseSummaryDto mapperCourseSummary() {
+        return courseMapper.toSummaryDto(course);
+    }
+
+    @Benchmark
+    public TranscriptDto modelMapperTranscript() {
+        return modelMapper.map(transcript, TranscriptDto.class);
+    }
+
+    @Benchmark
+    public TranscriptDto mapperTranscript() {
+        return transcriptMapper.toDto(transcript);
+    }
+
+    @Benchmark
+    public DeletionTaskDto modelMapperDeletionTask() {
+        return modelMapper.map(deletionTask, DeletionTaskDto.class);
+    }
+
+    @Benchmark
+    public DeletionTaskDto mapperDeletionTask() {
+        return deletionTaskMapper.toDto(deletionTask);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<CourseDto> modelMapperCourseList() {
+        return courses.stream().map(c -> modelMapper.map(c, CourseDto.class)).toList();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<CourseDto> mapperCourseList() {
+        return courses.stream().map(courseMapper::toDto).toList();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<GradeDto> modelMapperGradeList() {
+        return grades.stream().map(g -> modelMapper.map(g, GradeDto.class)).toList();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<GradeDto> mapperGradeList() {
+        return grades.stream().map(gradeMapper::toDto).toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.inter.campuscrafter.benchmarks;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.entities.Enrollment;
+import com.inter.campuscrafter.repositories.memory.InMemoryEnrollmentRepository;
+import com.inter.campuscrafter.repositories.memory.InMemoryReactiveEnrollmentRepository;
+import com.inter.campuscrafter.services.EnrollmentService;
+import com.inter.campuscrafter.services.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnrollmentCheckBenchmark {
+    private static final String OTHER_STUDENT_ID = "655f76a5c75dc0165ef40003";
+
+    @Param({"1", "10", "100", "1000"})
+    public int courseCount;
+
+    private UserService userService;
+    private List<Course> courses;
+
+    @Setup
+    public void setUp() {
+        courses = BenchmarkData.courses(courseCount);
+
+        InMemoryEnrollmentRepository enrollmentRepository = new InMemoryEnrollmentRepository();
+        // The student attends only the teacher's last course, so a hit has to scan the whole list.
+        enrollmentRepository.save(new Enrollment(BenchmarkData.STUDENT_ID, courses.get(courseCount - 1).getId()));
+
+        EnrollmentService enrollmentService = new EnrollmentService(enrollmentRepository,
+                new InMemoryReactiveEnrollmentRepository(enrollmentRepository), 10_000, new SimpleMeterRegistry());
+        // enrolledInAnyCourse only consults the enrollment service.
+        userService = new UserService(null, enrollmentService, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public boolean enrolledStudent() {
+        return userService.enrolledInAnyCourse(BenchmarkData.STUDENT_ID, courses);
+    }
+
+    @Benchmark
+    public boolean notEnrolledStudent() {
+        return userService.enrolledInAnyCourse(OTHER_STUDENT_ID, courses);
+    }
+}
@@ -0,0 +1,129 @@
+package com.inter.campuscrafter.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inter.campuscrafter.CampusCrafterApplication;
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.repositories.interfaces.GradeRepository;
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Boots the application on the in-memory profile once per mode and sends bursts of concurrent requests through
+// Tomcat, the security filter chain and the controllers, so the comparison covers the whole request path.
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecutionModeBenchmark {
+    private static final String STUDENT_EMAIL = "default.student@example.com";
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"200", "2000"})
+    public int burstSize;
+
+    @Param({"50"})
+    public int gradeCount;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Passed as arguments rather than default properties, which application.yml would override.
+        context = new SpringApplicationBuilder(CampusCrafterApplication.class)
+                .profiles("in-memory")
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=200",
+                        "--server.tomcat.max-connections=10000",
+                        "--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                        // The grades route has a bulkhead that would turn most of a burst into 503s.
+                        "--bulkhead.limits.[/api/students/{studentId}/grades]=" + Integer.MAX_VALUE,
+                        "--logging.level.root=warn");
+
+        User student = context.getBean(UserRepository.class).findByEmail(STUDENT_EMAIL).orElseThrow();
+        context.getBean(GradeRepository.class).insertAll(BenchmarkData.grades(gradeCount).stream()
+                .peek(grade -> grade.setStudentId(student.getId()))
+                .peek(grade -> grade.setId(null))
+                .toList());
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+
+        String token = login(port);
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/students/" + student.getId() + "/grades"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void burstThroughput(Blackhole blackhole) {
+        runBurst(blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void burstLatency(Blackhole blackhole) {
+        runBurst(blackhole);
+    }
+
+    // Each request checks the student, authorizes the caller and reads the grades: several blocking repository
+    // calls on the thread that serves it.
+    private void runBurst(Blackhole blackhole) {
+        List<CompletableFuture<HttpResponse<byte[]>>> responses = new ArrayList<>(burstSize);
+
+        for (int i = 0; i < burstSize; i++) {
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()));
+        }
+
+        for (CompletableFuture<HttpResponse<byte[]>> response : responses) {
+            HttpResponse<byte[]> completed = response.join();
+
+            if (completed.statusCode() != 200) {
+                throw new IllegalStateException("Request failed with status " + completed.statusCode());
+            }
+            blackhole.consume(completed.body());
+        }
+    }
+
+    private String login(int port) throws Exception {
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(
+                        Map.of("email", STUDENT_EMAIL, "password", "password"))))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(login, HttpResponse.BodyHandlers.ofByteArray());
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+}
@@ -0,0 +1,54 @@
+package com.inter.campuscrafter.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inter.campuscrafter.dtos.CourseDto;
+import com.inter.campuscrafter.dtos.GradeDto;
+import com.inter.campuscrafter.mappers.CourseMapper;
+import com.inter.campuscrafter.mappers.GradeMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+    @Param({"100", "10000"})
+    public int listSize;
+
+    private ObjectWriter courseListWriter;
+    private ObjectWriter gradeListWriter;
+    private List<CourseDto> courses;
+    private List<GradeDto> grades;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot configures for the message converters.
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        courseListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, CourseDto.class));
+        gradeListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, GradeDto.class));
+
+        CourseMapper courseMapper = new CourseMapper();
+        GradeMapper gradeMapper = new GradeMapper();
+        courses = BenchmarkData.courses(listSize).stream().map(courseMapper::toDto).toList();
+        grades = BenchmarkData.grades(listSize).stream().map(gradeMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public byte[] courseList() throws Exception {
+        return courseListWriter.writeValueAsBytes(courses);
+    }
+
+    @Benchmark
+    public byte[] gradeList() throws Exception {
+        return gradeListWriter.writeValueAsBytes(grades);
+    }
+}
@@ -0,0 +1,88 @@
+package com.inter.campuscrafter.benchmarks;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.entities.UserRole;
+import com.inter.campuscrafter.services.JwtClaims;
+import com.inter.campuscrafter.services.JwtService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtVerificationBenchmark {
+    private static final String SECRET_KEY = "veryStrongSecretKey";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, 3600000, false);
+        user = new User();
+        user.setEmail("default.student@example.com");
+        user.setUserRole(UserRole.STUDENT);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean legacyPath1Thread() {
+        return legacyVerify();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean legacyPath8Threads() {
+        return legacyVerify();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean legacyPath64Threads() {
+        return legacyVerify();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean singlePass1Thread() {
+        return singlePassVerify();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean singlePass8Threads() {
+        return singlePassVerify();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean singlePass64Threads() {
+        return singlePassVerify();
+    }
+
+    private boolean singlePassVerify() {
+        JwtClaims claims = jwtService.verify(token);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    // The filter path before the verifier was shared: extractUsername and isTokenValid
+    // each built their own Algorithm and JWTVerifier and verified the signature again.
+    private boolean legacyVerify() {
+        String subject = legacyDecode().getSubject();
+        DecodedJWT jwt = legacyDecode();
+        return subject != null
+                && !jwt.getExpiresAt().before(new Date())
+                && jwt.getSubject().equals(user.getUsername());
+    }
+
+    private DecodedJWT legacyDecode() {
+        return JWT.require(Algorithm.HMAC256(SECRET_KEY)).build().verify(token);
+    }
+}
@@ -0,0 +1,89 @@
+package com.inter.campuscrafter.benchmarks;
+
+import com.inter.campuscrafter.config.JwtAuthenticationFilter;
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.repositories.memory.InMemoryUserRepository;
+import com.inter.campuscrafter.services.JwtService;
+import com.inter.campuscrafter.services.TokenCacheService;
+import com.inter.campuscrafter.services.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityPathBenchmark {
+    private static final String SECRET_KEY = "veryStrongSecretKey";
+    private static final long CACHE_SIZE = 10_000;
+
+    @Param({"false", "true"})
+    public boolean statelessPrincipal;
+
+    private JwtService jwtService;
+    private TokenCacheService tokenCacheService;
+    private JwtAuthenticationFilter filter;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        user = userRepository.save(BenchmarkData.user());
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET_KEY, 3600000, statelessPrincipal);
+        tokenCacheService = new TokenCacheService(CACHE_SIZE, meterRegistry);
+        TokenRevocationService tokenRevocationService =
+                new TokenRevocationService(jwtService, tokenCacheService, userRepository, CACHE_SIZE);
+        UserDetailsService userDetailsService = username -> userRepository.findByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        filter = new JwtAuthenticationFilter((request, response, handler, exception) -> null,
+                jwtService, userDetailsService, tokenCacheService, tokenRevocationService);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public Authentication filterCachedToken() throws Exception {
+        return authenticate();
+    }
+
+    // Evicting first makes every call verify the signature and, unless the principal
+    // travels in the token, load the user, as the first request with a new token does.
+    @Benchmark
+    public Authentication filterUncachedToken() throws Exception {
+        tokenCacheService.evictToken(token);
+        return authenticate();
+    }
+
+    private Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
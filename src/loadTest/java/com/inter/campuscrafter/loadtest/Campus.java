@@ -0,0 +1,48 @@
+package com.inter.campuscrafter.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// The manifest written by SyntheticDataGenerator: accounts and the ids the scenarios need.
+record Campus(List<Account> teachers, List<Account> students, List<CourseEntry> courses) {
+    static Campus read(Path manifest, ObjectMapper objectMapper) throws IOException {
+        return objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .readValue(manifest.toFile(), Campus.class);
+    }
+
+    List<CourseEntry> gradableCourses() {
+        return courses.stream()
+                .filter(course -> !course.assignments().isEmpty() && !course.students().isEmpty())
+                .toList();
+    }
+
+    // Cumulative enrollment counts, so popular courses are browsed as often as their size suggests.
+    long[] cumulativeEnrollments() {
+        long[] cumulative = new long[courses.size()];
+        long total = 0;
+
+        for (int i = 0; i < courses.size(); i++) {
+            total += courses.get(i).students().size() + 1;
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    CourseEntry popularCourse(SplittableRandom random, long[] cumulativeEnrollments) {
+        int position = Arrays.binarySearch(cumulativeEnrollments, random.nextLong(cumulativeEnrollments[cumulativeEnrollments.length - 1]));
+        return courses.get(position >= 0 ? position + 1 : -position - 1);
+    }
+
+    record Account(String id, String email) {
+    }
+
+    record CourseEntry(String id, int teacher, List<String> assignments, List<Integer> students) {
+    }
+}
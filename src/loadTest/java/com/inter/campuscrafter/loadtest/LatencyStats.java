@@ -0,0 +1,111 @@
+package com.inter.campuscrafter.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latencies are kept in microseconds per endpoint template; nothing is recorded until start() is called.
+class LatencyStats {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private long startedNanos;
+    private long stoppedNanos;
+
+    synchronized void start() {
+        startedNanos = System.nanoTime();
+        recording = true;
+    }
+
+    // Only the first call ends the measurement, so a late caller does not stretch it.
+    synchronized void stop() {
+        if (recording) {
+            recording = false;
+            stoppedNanos = System.nanoTime();
+        }
+    }
+
+    double elapsedSeconds() {
+        return (stoppedNanos - startedNanos) / 1e9;
+    }
+
+    void record(String endpoint, long latencyNanos, boolean failed) {
+        if (!recording) {
+            return;
+        }
+
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.latencies().recordValue(Math.max(1, latencyNanos / 1_000));
+
+        if (failed) {
+            stats.errors().increment();
+        }
+    }
+
+    List<EndpointReport> report() {
+        double seconds = elapsedSeconds();
+        List<EndpointReport> reports = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Histogram histogram = entry.getValue().latencies().getIntervalHistogram();
+            long errors = entry.getValue().errors().sum();
+            total.add(histogram);
+            totalErrors += errors;
+            reports.add(EndpointReport.of(entry.getKey(), histogram, errors, seconds));
+        }
+
+        reports.sort(Comparator.comparing(EndpointReport::endpoint));
+        reports.add(EndpointReport.of("all", total, totalErrors, seconds));
+        return reports;
+    }
+
+    static void print(List<EndpointReport> reports, PrintStream out) {
+        out.printf("%-50s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (EndpointReport report : reports) {
+            out.printf("%-50s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", report.endpoint(), report.requests(),
+                    report.errors(), report.throughput(), report.p50(), report.p90(), report.p99(), report.p999(), report.max());
+        }
+    }
+
+    static void write(Object report, Path file, ObjectMapper objectMapper) throws IOException {
+        Path target = file.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(target.toFile(), report);
+    }
+
+    private record Endpoint(Recorder latencies, LongAdder errors) {
+        Endpoint() {
+            this(new Recorder(3), new LongAdder());
+        }
+    }
+
+    record EndpointReport(String endpoint, long requests, long errors, double throughput,
+                          double p50, double p90, double p99, double p999, double max) {
+        static EndpointReport of(String endpoint, Histogram histogram, long errors, double seconds) {
+            double[] percentiles = new double[PERCENTILES.length];
+
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                percentiles[i] = histogram.getValueAtPercentile(PERCENTILES[i]) / 1_000.0;
+            }
+            return new EndpointReport(endpoint, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                    percentiles[0], percentiles[1], percentiles[2], percentiles[3], histogram.getMaxValue() / 1_000.0);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.inter.campuscrafter.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inter.campuscrafter.loadtest.Campus.Account;
+import com.inter.campuscrafter.loadtest.Campus.CourseEntry;
+import com.inter.campuscrafter.loadtest.LoadTestOptions.Scenario;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Closed-loop load test: every virtual user logs in as a synthetic student, then keeps running scenarios
+// picked from the mix until the deadline. Run it against an instance started with synthetic-data.enabled.
+// The first logins of all users are measured as a phase of their own, the login storm, which ends once every
+// user holds a token; the steady phase is measured from the end of the warmup to the deadline.
+public class LoadTest {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration LOGIN_RETRY_DELAY = Duration.ofMillis(100);
+    private static final int PAGE_SIZE = 50;
+
+    private final LoadTestOptions options;
+    private final Campus campus;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final LatencyStats loginStorm = new LatencyStats();
+    private final LatencyStats steady = new LatencyStats();
+    private final CountDownLatch loggedIn;
+    private final Map<Integer, String> teacherTokens = new ConcurrentHashMap<>();
+    private final List<CourseEntry> gradableCourses;
+    private final long[] cumulativeEnrollments;
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    LoadTest(LoadTestOptions options, Campus campus, ObjectMapper objectMapper) {
+        this.options = options;
+        this.campus = campus;
+        this.objectMapper = objectMapper;
+        this.loggedIn = new CountDownLatch(options.users());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.gradableCourses = campus.gradableCourses();
+        this.cumulativeEnrollments = campus.cumulativeEnrollments();
+        this.scenarios = options.mix().keySet().toArray(Scenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += options.mix().get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        Campus campus = Campus.read(options.manifest(), objectMapper);
+
+        System.out.printf("Running %d users against %s for %s after a %s warmup, mix %s%n", options.users(),
+                options.baseUrl(), options.duration(), options.warmup(), options.mix());
+
+        Report report = new LoadTest(options, campus, objectMapper).run();
+
+        System.out.printf("%nLogin storm: %d of %d users logged in within %.1f s%n", report.loggedIn(), options.users(),
+                report.loginStormSeconds());
+        LatencyStats.print(report.loginStorm(), System.out);
+        System.out.printf("%nSteady state over %s%n", options.duration());
+        LatencyStats.print(report.steady(), System.out);
+        LatencyStats.write(report, options.report(), objectMapper);
+        System.out.println("Report written to " + options.report().toAbsolutePath());
+    }
+
+    Report run() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long measureFrom = startNanos + options.warmup().toNanos();
+        long deadline = measureFrom + options.duration().toNanos();
+
+        long stormLoggedIn;
+
+        loginStorm.start();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.users(); user++) {
+                SplittableRandom random = new SplittableRandom(options.seed() + user);
+                users.submit(() -> runUser(random, deadline));
+            }
+
+            Thread.sleep(Duration.ofNanos(Math.max(0, measureFrom - System.nanoTime())));
+            steady.start();
+            Thread.sleep(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            steady.stop();
+
+            // Users still without a token end the storm at the deadline; logins still in flight are not counted.
+            loginStorm.stop();
+            stormLoggedIn = options.users() - loggedIn.getCount();
+        }
+
+        return new Report(stormLoggedIn, loginStorm.elapsedSeconds(), loginStorm.report(), steady.report());
+    }
+
+    private void runUser(SplittableRandom random, long deadline) {
+        int student = random.nextInt(campus.students().size());
+        String token = null;
+
+        while (System.nanoTime() < deadline) {
+            try {
+                if (token == null) {
+                    token = login(campus.students().get(student), loginStorm);
+
+                    if (token == null) {
+                        Thread.sleep(LOGIN_RETRY_DELAY);
+                    } else {
+                        loggedIn();
+                    }
+                    continue;
+                }
+
+                switch (pickScenario(random)) {
+                    case LOGIN -> {
+                        student = random.nextInt(campus.students().size());
+                        token = login(campus.students().get(student), steady);
+                    }
+                    case BROWSE -> browse(token, random);
+                    case LOOKUP -> lookup(token, campus.students().get(student));
+                    case GRADE -> grade(random);
+                }
+
+                if (!options.thinkTime().isZero()) {
+                    Thread.sleep(options.thinkTime());
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void loggedIn() {
+        loggedIn.countDown();
+
+        if (loggedIn.getCount() == 0) {
+            loginStorm.stop();
+        }
+    }
+
+    private Scenario pickScenario(SplittableRandom random) {
+        int position = Arrays.binarySearch(cumulativeWeights, random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+        return scenarios[position >= 0 ? position + 1 : -position - 1];
+    }
+
+    private String login(Account account, LatencyStats stats) {
+        Map<String, String> credentials = Map.of("email", account.email(), "password", options.password());
+        HttpResponse<byte[]> response = send("POST /api/auth/login", post("/api/auth/login", null, credentials), stats);
+        return response != null && response.statusCode() == 200 ? readTree(response).path("token").asText(null) : null;
+    }
+
+    // Pages through the catalogue, then opens one course and its assignments.
+    private void browse(String token, SplittableRandom random) {
+        CourseEntry course = campus.popularCourse(random, cumulativeEnrollments);
+        String after = campus.courses().get(random.nextInt(campus.courses().size())).id();
+
+        send("GET /api/courses?limit", get("/api/courses?limit=" + PAGE_SIZE + "&summary=true&after=" + after, token));
+        send("GET /api/courses/{id}", get("/api/courses/" + course.id(), token));
+        send("GET /api/courses/{courseId}/assignments", get("/api/courses/" + course.id() + "/assignments", token));
+    }
+
+    private void lookup(String token, Account student) {
+        send("GET /api/students/{studentId}/grades", get("/api/students/" + student.id() + "/grades", token));
+        send("GET /api/students/{studentId}/transcript", get("/api/students/" + student.id() + "/transcript", token));
+    }
+
+    // The teacher of a course grades one assignment for a slice of its class.
+    private void grade(SplittableRandom random) {
+        if (gradableCourses.isEmpty()) {
+            return;
+        }
+
+        CourseEntry course = gradableCourses.get(random.nextInt(gradableCourses.size()));
+        String assignmentId = course.assignments().get(random.nextInt(course.assignments().size()));
+        String token = teacherToken(course.teacher());
+
+        if (token == null) {
+            return;
+        }
+
+        List<Integer> students = course.students();
+        int from = random.nextInt(students.size());
+        List<Map<String, Object>> grades = new ArrayList<>();
+
+        for (int i = from; i < Math.min(students.size(), from + options.bulkSize()); i++) {
+            grades.add(Map.of("studentId", campus.students().get(students.get(i)).id(),
+                    "assignmentId", assignmentId,
+                    "score", random.nextInt(101),
+                    "feedback", "Load test"));
+        }
+
+        send("POST /api/assignments/{assignmentId}/grades/bulk",
+                post("/api/assignments/" + assignmentId + "/grades/bulk", token, grades));
+    }
+
+    private String teacherToken(int teacher) {
+        String token = teacherTokens.get(teacher);
+
+        if (token == null) {
+            token = login(campus.teachers().get(teacher), steady);
+
+            if (token != null) {
+                teacherTokens.put(teacher, token);
+            }
+        }
+        return token;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Could not serialize request body", exception);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(REQUEST_TIMEOUT);
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request) {
+        return send(endpoint, request, steady);
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request, LatencyStats stats) {
+        long started = System.nanoTime();
+
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            stats.record(endpoint, System.nanoTime() - started, response.statusCode() >= 400);
+            return response;
+        } catch (IOException exception) {
+            stats.record(endpoint, System.nanoTime() - started, true);
+            return null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private JsonNode readTree(HttpResponse<byte[]> response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException exception) {
+            return objectMapper.missingNode();
+        }
+    }
+
+    record Report(long loggedIn, double loginStormSeconds,
+                  List<LatencyStats.EndpointReport> loginStorm, List<LatencyStats.EndpointReport> steady) {
+    }
+}
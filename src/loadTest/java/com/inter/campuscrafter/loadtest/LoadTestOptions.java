@@ -0,0 +1,80 @@
+package com.inter.campuscrafter.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+record LoadTestOptions(URI baseUrl,
+                       Path manifest,
+                       String password,
+                       int users,
+                       Duration warmup,
+                       Duration duration,
+                       Map<Scenario, Integer> mix,
+                       int bulkSize,
+                       Duration thinkTime,
+                       Path report,
+                       long seed) {
+    private static final Set<String> NAMES = Set.of("base-url", "manifest", "password", "users", "warmup", "duration",
+            "mix", "bulk-size", "think-time", "report", "seed");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+
+            if (!arg.startsWith("--") || separator < 0 || !NAMES.contains(arg.substring(2, separator))) {
+                throw new IllegalArgumentException("Unknown option " + arg + ", expected --name=value with name one of " + NAMES);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                Path.of(values.getOrDefault("manifest", "synthetic-campus.json")),
+                values.getOrDefault("password", "password"),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                duration(values.getOrDefault("warmup", "10s")),
+                duration(values.getOrDefault("duration", "60s")),
+                mix(values.getOrDefault("mix", "login=10,browse=40,lookup=35,grade=15")),
+                Integer.parseInt(values.getOrDefault("bulk-size", "50")),
+                duration(values.getOrDefault("think-time", "0ms")),
+                Path.of(values.getOrDefault("report", "build/reports/load-test/report.json")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+    }
+
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        throw new IllegalArgumentException("Duration " + value + " needs a unit of ms, s or m");
+    }
+
+    private static Map<Scenario, Integer> mix(String value) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            weights.put(Scenario.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    enum Scenario {
+        LOGIN,
+        BROWSE,
+        LOOKUP,
+        GRADE
+    }
+}
@@ -0,0 +1,124 @@
+package com.inter.campuscrafter.config;
+
+import com.inter.campuscrafter.exceptions.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Duration acquireTimeout;
+    private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+
+    public BulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.acquireTimeout = properties.acquireTimeout();
+
+        properties.limits().forEach((route, limit) -> {
+            Semaphore permits = new Semaphore(limit);
+            Gauge.builder("http.bulkhead.available", permits, Semaphore::availablePermits)
+                    .tag("route", route)
+                    .register(meterRegistry);
+            Counter rejections = Counter.builder("http.bulkhead.rejected")
+                    .tag("route", route)
+                    .register(meterRegistry);
+            bulkheads.put(route, new Bulkhead(permits, rejections));
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        String route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Bulkhead bulkhead = route == null ? null : bulkheads.get(route);
+
+        if (bulkhead == null) {
+            return true;
+        }
+
+        if (!bulkhead.permits().tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            bulkhead.rejections().increment();
+            throw new BulkheadFullException(route);
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(bulkhead.permits()));
+        return true;
+    }
+
+    // Streaming responses finish after the handler returns and their async dispatch may never reach
+    // this interceptor, so the permit is tied to the lifecycle of the async context instead.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+
+        if (permit != null) {
+            request.getAsyncContext().addListener(permit);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+
+        if (permit != null && !request.isAsyncStarted()) {
+            permit.release();
+        }
+    }
+
+    private record Bulkhead(Semaphore permits, Counter rejections) {
+    }
+
+    private static class Permit implements AsyncListener {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
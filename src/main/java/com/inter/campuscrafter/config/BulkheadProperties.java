@@ -0,0 +1,14 @@
+package com.inter.campuscrafter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties("bulkhead")
+public record BulkheadProperties(Duration acquireTimeout, Map<String, Integer> limits) {
+    public BulkheadProperties {
+        acquireTimeout = acquireTimeout == null ? Duration.ZERO : acquireTimeout;
+        limits = limits == null ? Map.of() : Map.copyOf(limits);
+    }
+}
@@ -0,0 +1,72 @@
+package com.inter.campuscrafter.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.services.EntityCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+@Configuration
+public class CacheConfig {
+    @Value("${cache.entities.ttl}")
+    private Duration ttl;
+
+    @Value("${cache.entities.max-size}")
+    private long maxSize;
+
+    @Bean
+    EntityCache<Course> courseCache(MeterRegistry meterRegistry) {
+        return entityCache("courses", CacheConfig::copy, meterRegistry);
+    }
+
+    @Bean
+    EntityCache<Assignment> assignmentCache(MeterRegistry meterRegistry) {
+        return entityCache("assignments", CacheConfig::copy, meterRegistry);
+    }
+
+    private <T> EntityCache<T> entityCache(String name, UnaryOperator<T> copier, MeterRegistry meterRegistry) {
+        Cache<String, T> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        return new EntityCache<>(CaffeineCacheMetrics.monitor(meterRegistry, cache, name), copier);
+    }
+
+    private static Course copy(Course course) {
+        Course copy = new Course();
+        copy.setId(course.getId());
+        copy.setTitle(course.getTitle());
+        copy.setDescription(course.getDescription());
+        copy.setTeacherId(course.getTeacherId());
+        copy.setStartDate(course.getStartDate());
+        copy.setCredits(course.getCredits());
+        copy.setEnrollmentLimit(course.getEnrollmentLimit());
+        copy.setStatus(course.getStatus());
+        copy.setVersion(course.getVersion());
+        return copy;
+    }
+
+    private static Assignment copy(Assignment assignment) {
+        Assignment copy = new Assignment();
+        copy.setId(assignment.getId());
+        copy.setTitle(assignment.getTitle());
+        copy.setContent(assignment.getContent());
+        copy.setDueDate(assignment.getDueDate());
+        copy.setCourseId(assignment.getCourseId());
+        copy.setPostedDate(assignment.getPostedDate());
+        copy.setMaxScore(assignment.getMaxScore());
+        copy.setSubmissionFormat(assignment.getSubmissionFormat());
+        copy.setVersion(assignment.getVersion());
+        return copy;
+    }
+}
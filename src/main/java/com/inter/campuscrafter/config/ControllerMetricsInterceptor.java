@@ -0,0 +1,97 @@
+package com.inter.campuscrafter.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+@RequiredArgsConstructor
+public class ControllerMetricsInterceptor implements AsyncHandlerInterceptor {
+    private static final String SAMPLE_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".sample";
+
+    private final MeterRegistry meterRegistry;
+    private final MongoOperationCounter mongoOperationCounter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST && handler instanceof HandlerMethod) {
+            request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+            mongoOperationCounter.start();
+        }
+        return true;
+    }
+
+    // Streaming responses are timed until the async context completes; only the commands issued while the
+    // handler ran on the request thread are counted.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Timer.Sample sample = (Timer.Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+
+        if (sample == null) {
+            return;
+        }
+
+        int mongoOperations = mongoOperationCounter.stop();
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                record(sample, mongoOperations, request, response, handler, null);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Timer.Sample sample = (Timer.Sample) request.getAttribute(SAMPLE_ATTRIBUTE);
+
+        if (sample != null && request.getDispatcherType() == DispatcherType.REQUEST && !request.isAsyncStarted()) {
+            record(sample, mongoOperationCounter.stop(), request, response, handler, ex);
+        }
+    }
+
+    private void record(Timer.Sample sample, int mongoOperations, HttpServletRequest request,
+                        HttpServletResponse response, Object handler, Exception exception) {
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of(
+                "class", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName(),
+                "uri", uri == null ? "UNKNOWN" : uri.toString());
+
+        sample.stop(Timer.builder("controller.method")
+                .description("Time spent in a controller method, including the response body")
+                .tags(tags)
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("exception", exception == null ? "none" : exception.getClass().getSimpleName())
+                .register(meterRegistry));
+
+        DistributionSummary.builder("controller.method.mongo.operations")
+                .description("MongoDB commands sent while a controller method handled one request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(mongoOperations);
+    }
+}
@@ -4,19 +4,22 @@ import com.inter.campuscrafter.entities.Student;
 import com.inter.campuscrafter.entities.User;
 import com.inter.campuscrafter.entities.UserRole;
 import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import com.inter.campuscrafter.services.EnrollmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Component
+@Order(1)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EnrollmentService enrollmentService;
 
     @Override
     public void run(String... args) {
@@ -50,8 +53,8 @@ public class DataInitializer implements CommandLineRunner {
             defaultUser.setPassword(passwordEncoder.encode("password"));
             defaultUser.setUserRole(UserRole.STUDENT);
             defaultUser.setDateJoined(LocalDateTime.now());
-            defaultUser.setCourseIds(List.of("655f76a5c75dc0165ef4007d"));
-            userRepository.save(defaultUser);
+            User savedStudent = userRepository.save(defaultUser);
+            enrollmentService.enroll(savedStudent.getId(), "655f76a5c75dc0165ef4007d");
         }
     }
 }
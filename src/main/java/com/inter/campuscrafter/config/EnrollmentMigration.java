@@ -0,0 +1,64 @@
+package com.inter.campuscrafter.config;
+
+import com.inter.campuscrafter.entities.Migration;
+import com.inter.campuscrafter.entities.Student;
+import com.inter.campuscrafter.repositories.interfaces.MigrationRepository;
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import com.inter.campuscrafter.services.EnrollmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Pages through the students in id order and records the last one of every batch, so an interrupted run
+// resumes where it stopped and a completed one is not repeated on later startups.
+@Slf4j
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migrations.enrollment-backfill", havingValue = "true")
+public class EnrollmentMigration implements CommandLineRunner {
+    private static final String NAME = "enrollment-backfill";
+    private static final int BATCH_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final EnrollmentService enrollmentService;
+    private final MigrationRepository migrationRepository;
+
+    @Override
+    public void run(String... args) {
+        Migration migration = migrationRepository.findById(NAME).orElseGet(() -> new Migration(NAME));
+
+        if (migration.isCompleted()) {
+            log.info("Enrollment backfill already completed at {}", migration.getCompletedAt());
+            return;
+        }
+
+        int created = 0;
+        List<Student> students;
+
+        do {
+            students = userRepository.findStudentsWithCourseIds(migration.getResumeAfter(), BATCH_SIZE);
+
+            if (students.isEmpty()) {
+                break;
+            }
+
+            created += enrollmentService.enrollAll(students.stream()
+                    .collect(Collectors.toMap(Student::getId, Student::getCourseIds)));
+            migration.setResumeAfter(students.getLast().getId());
+            migrationRepository.save(migration);
+        } while (students.size() == BATCH_SIZE);
+
+        migration.setCompletedAt(LocalDateTime.now());
+        migrationRepository.save(migration);
+
+        log.info("Enrollment backfill created {} enrollments from Student.courseIds", created);
+    }
+}
@@ -1,6 +1,11 @@
 package com.inter.campuscrafter.config;
 
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.services.JwtClaims;
 import com.inter.campuscrafter.services.JwtService;
+import com.inter.campuscrafter.services.TokenCacheService;
+import com.inter.campuscrafter.services.TokenCacheService.VerifiedToken;
+import com.inter.campuscrafter.services.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +31,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenCacheService tokenCacheService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -40,14 +47,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-            if (userEmail != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            if (authentication == null) {
+                UserDetails userDetails = tokenCacheService.resolve(jwt, this::verify);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -63,6 +69,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception exception) {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
+    }
+
+    private VerifiedToken verify(String jwt) {
+        final JwtClaims claims = jwtService.verify(jwt);
+
+        if (claims.subject() == null || tokenRevocationService.isRevoked(claims)) {
+            return null;
+        }
+
+        if (jwtService.isStatelessPrincipal() && claims.carriesPrincipal()) {
+            return new VerifiedToken(principalFromClaims(claims), claims.expiresAt());
+        }
+
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(claims.subject());
+
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            return null;
+        }
+
+        return new VerifiedToken(userDetails, claims.expiresAt());
+    }
 
+    private User principalFromClaims(JwtClaims claims) {
+        User principal = new User();
+        principal.setId(claims.userId());
+        principal.setEmail(claims.subject());
+        principal.setUserRole(claims.userRole());
+        principal.setTokenVersion(claims.tokenVersion());
+        return principal;
     }
 }
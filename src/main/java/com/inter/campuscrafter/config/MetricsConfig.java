@@ -0,0 +1,25 @@
+package com.inter.campuscrafter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MongoProfilerProperties.class)
+public class MetricsConfig {
+    @Bean
+    static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer mongoCommandListenerCustomizer(MongoOperationCounter mongoOperationCounter,
+                                                                        MongoCommandProfiler mongoCommandProfiler) {
+        return settings -> settings
+                .addCommandListener(mongoOperationCounter)
+                .addCommandListener(mongoCommandProfiler);
+    }
+}
@@ -0,0 +1,307 @@
+package com.inter.campuscrafter.config;
+
+import com.inter.campuscrafter.config.MongoOperationCounter.RequestCommands;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+// Sees every command the drivers send. Commands slower than the threshold are kept in a ring buffer together with
+// the request that sent them; read commands among them are re-run through explain on a background thread to learn
+// how many documents the server examined. Requests that send more than the threshold of commands with the same
+// shape (command, collection and filter fields) are reported as likely N+1 query patterns.
+@Slf4j
+@Component
+public class MongoCommandProfiler implements CommandListener {
+    private static final Set<String> IGNORED_COMMANDS = Set.of("explain", "hello", "isMaster", "ismaster", "ping",
+            "buildInfo", "saslStart", "saslContinue", "endSessions", "killCursors");
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct",
+            "delete", "findAndModify");
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction",
+            "readConcern", "writeConcern");
+
+    private final MongoProfilerProperties properties;
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final MongoOperationCounter mongoOperationCounter;
+    private final Counter slowCommandCounter;
+    private final Counter repeatedQueryCounter;
+    private final Map<Integer, StartedCommand> startedCommands = new ConcurrentHashMap<>();
+    private final Deque<SlowCommand> slowCommands = new ArrayDeque<>();
+    private final Deque<RepeatedQuery> repeatedQueries = new ArrayDeque<>();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public MongoCommandProfiler(MongoProfilerProperties properties,
+                                ObjectProvider<MongoTemplate> mongoTemplate,
+                                MongoOperationCounter mongoOperationCounter,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.mongoTemplate = mongoTemplate;
+        this.mongoOperationCounter = mongoOperationCounter;
+        this.slowCommandCounter = Counter.builder("mongo.profiler.slow.commands")
+                .description("MongoDB commands slower than the profiler threshold")
+                .register(meterRegistry);
+        this.repeatedQueryCounter = Counter.builder("mongo.profiler.repeated.queries")
+                .description("Requests that sent more similar MongoDB commands than the profiler threshold")
+                .register(meterRegistry);
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.bufferSize()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mongo-profiler-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public void beginRequest(String requestId, String request) {
+        mongoOperationCounter.beginRequest(requestId, request);
+    }
+
+    public void endRequest() {
+        RequestCommands requestCommands = mongoOperationCounter.endRequest();
+
+        if (requestCommands == null) {
+            return;
+        }
+
+        requestCommands.shapes().forEach((shape, count) -> {
+            if (count > properties.repeatedQueryThreshold()) {
+                log.warn("Request {} ({}) sent {} similar MongoDB commands: {}",
+                        requestCommands.requestId(), requestCommands.request(), count, shape);
+                repeatedQueryCounter.increment();
+                append(repeatedQueries, new RepeatedQuery(Instant.now(), requestCommands.requestId(),
+                        requestCommands.request(), shape, count));
+            }
+        });
+    }
+
+    public List<SlowCommand> getSlowCommands() {
+        synchronized (slowCommands) {
+            return List.copyOf(slowCommands);
+        }
+    }
+
+    public List<RepeatedQuery> getRepeatedQueries() {
+        synchronized (repeatedQueries) {
+            return List.copyOf(repeatedQueries);
+        }
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+
+        if (!properties.enabled() || IGNORED_COMMANDS.contains(commandName)) {
+            return;
+        }
+
+        // The command document is only valid while the event is delivered, so everything needed later is copied now.
+        BsonDocument command = event.getCommand();
+        BsonValue target = command.get(commandName);
+        String collection = target != null && target.isString() ? target.asString().getValue() : null;
+        String shape = commandName + " " + collection + " " + shapeOf(predicateOf(commandName, command));
+        RequestCommands requestCommands = mongoOperationCounter.currentRequest();
+
+        if (requestCommands != null && !commandName.equals("getMore")) {
+            requestCommands.shapes().merge(shape, 1, Integer::sum);
+        }
+
+        BsonDocument explainable = properties.explainSlowCommands() && EXPLAINABLE_COMMANDS.contains(commandName)
+                ? withoutSessionFields(command)
+                : null;
+
+        startedCommands.put(event.getRequestId(), new StartedCommand(
+                requestCommands == null ? null : requestCommands.requestId(),
+                requestCommands == null ? null : requestCommands.request(),
+                event.getDatabaseName(), collection, commandName, shape, explainable));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        StartedCommand started = startedCommands.remove(event.getRequestId());
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+
+        if (started == null || elapsedNanos < properties.slowThreshold().toNanos()) {
+            return;
+        }
+
+        slowCommandCounter.increment();
+        SlowCommand slowCommand = new SlowCommand(Instant.now(), started.requestId(), started.request(),
+                started.database(), started.collection(), started.commandName(), started.shape(),
+                elapsedNanos / 1_000_000.0, returnedDocuments(event.getResponse()), null, null);
+
+        if (started.explainable() == null) {
+            record(slowCommand);
+            return;
+        }
+
+        try {
+            explainExecutor.execute(() -> record(explain(slowCommand, started)));
+        } catch (RejectedExecutionException exception) {
+            record(slowCommand);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        startedCommands.remove(event.getRequestId());
+    }
+
+    @PreDestroy
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    private SlowCommand explain(SlowCommand slowCommand, StartedCommand started) {
+        MongoTemplate template = mongoTemplate.getIfAvailable();
+
+        if (template == null) {
+            return slowCommand;
+        }
+
+        try {
+            Document explain = template.getMongoDatabaseFactory().getMongoDatabase(started.database())
+                    .runCommand(new Document("explain", started.explainable()).append("verbosity", "executionStats"));
+            Document executionStats = findDocument(explain, "executionStats");
+
+            if (executionStats == null) {
+                return slowCommand;
+            }
+
+            return new SlowCommand(slowCommand.timestamp(), slowCommand.requestId(), slowCommand.request(),
+                    slowCommand.database(), slowCommand.collection(), slowCommand.command(), slowCommand.shape(),
+                    slowCommand.durationMillis(), slowCommand.documentsReturned(),
+                    longValue(executionStats.get("totalDocsExamined")), longValue(executionStats.get("totalKeysExamined")));
+        } catch (RuntimeException exception) {
+            log.debug("Could not explain slow command {}", started.shape(), exception);
+            return slowCommand;
+        }
+    }
+
+    private void record(SlowCommand slowCommand) {
+        log.warn("Slow MongoDB command for request {} ({}): {} took {} ms, {} documents returned, {} examined",
+                slowCommand.requestId(), slowCommand.request(), slowCommand.shape(),
+                String.format("%.1f", slowCommand.durationMillis()), slowCommand.documentsReturned(),
+                slowCommand.documentsExamined());
+        append(slowCommands, slowCommand);
+    }
+
+    private <T> void append(Deque<T> buffer, T entry) {
+        synchronized (buffer) {
+            if (buffer.size() == properties.bufferSize()) {
+                buffer.removeFirst();
+            }
+            buffer.addLast(entry);
+        }
+    }
+
+    private static BsonValue predicateOf(String commandName, BsonDocument command) {
+        return switch (commandName) {
+            case "find" -> command.get("filter");
+            case "count", "distinct", "findAndModify" -> command.get("query");
+            case "delete" -> firstStatementField(command.get("deletes"), "q");
+            case "update" -> firstStatementField(command.get("updates"), "q");
+            case "aggregate" -> firstStatementField(command.get("pipeline"), "$match");
+            default -> null;
+        };
+    }
+
+    private static BsonValue firstStatementField(BsonValue statements, String field) {
+        if (statements instanceof BsonArray array && !array.isEmpty() && array.get(0).isDocument()) {
+            return array.get(0).asDocument().get(field);
+        }
+        return null;
+    }
+
+    // Keeps field names and operators and replaces every value, so queries that differ only in their
+    // arguments get the same shape.
+    private static String shapeOf(BsonValue value) {
+        if (value instanceof BsonDocument document) {
+            return document.entrySet().stream()
+                    .map(entry -> entry.getKey() + ": " + shapeOf(entry.getValue()))
+                    .collect(Collectors.joining(", ", "{", "}"));
+        }
+
+        if (value instanceof BsonArray array && !array.isEmpty() && array.get(0).isDocument()) {
+            return "[" + shapeOf(array.get(0)) + "]";
+        }
+        return value == null ? "{}" : "?";
+    }
+
+    private static BsonDocument withoutSessionFields(BsonDocument command) {
+        BsonDocument copy = command.clone();
+        copy.keySet().removeIf(key -> key.startsWith("$") || SESSION_FIELDS.contains(key));
+        return copy;
+    }
+
+    private static Long returnedDocuments(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().containsKey("firstBatch")
+                    ? cursor.asDocument().get("firstBatch")
+                    : cursor.asDocument().get("nextBatch");
+            return batch != null && batch.isArray() ? (long) batch.asArray().size() : null;
+        }
+
+        BsonValue count = response.get("n");
+        return count != null && count.isNumber() ? count.asNumber().longValue() : null;
+    }
+
+    private static Document findDocument(Document document, String key) {
+        if (document.get(key) instanceof Document found) {
+            return found;
+        }
+
+        for (Object value : document.values()) {
+            Document found = null;
+
+            if (value instanceof Document nested) {
+                found = findDocument(nested, key);
+            } else if (value instanceof List<?> list) {
+                found = list.stream()
+                        .filter(Document.class::isInstance)
+                        .map(item -> findDocument((Document) item, key))
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
+            }
+
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static Long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    public record SlowCommand(Instant timestamp, String requestId, String request, String database, String collection,
+                              String command, String shape, double durationMillis, Long documentsReturned,
+                              Long documentsExamined, Long keysExamined) {
+    }
+
+    public record RepeatedQuery(Instant timestamp, String requestId, String request, String shape, int count) {
+    }
+
+    private record StartedCommand(String requestId, String request, String database, String collection,
+                                  String commandName, String shape, BsonDocument explainable) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.inter.campuscrafter.config;
+
+import com.inter.campuscrafter.entities.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// Automatic index creation is off, so this is the only place the indexes declared on the entities are created,
+// including the unique ones that enrollments and e-mail addresses rely on. The in-memory and local profiles run
+// without MongoDB.
+@Slf4j
+@Component
+@Order(0)
+@Profile("!in-memory & !local")
+@RequiredArgsConstructor
+public class MongoIndexCreator implements ApplicationRunner {
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(
+            Course.class, Assignment.class, Grade.class, User.class, Enrollment.class, DeletionTask.class, GradeStatistics.class);
+    // Indexes earlier versions created that a compound index now covers; they would only add write cost.
+    private static final Map<Class<?>, List<String>> OBSOLETE_INDEXES = Map.of(Grade.class, List.of("assignmentId"));
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexResolver indexResolver = IndexResolver.create(mappingContext);
+
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            IndexOperations indexOperations = mongoTemplate.indexOps(entity);
+            indexResolver.resolveIndexFor(entity).forEach(indexOperations::ensureIndex);
+            dropObsoleteIndexes(entity, indexOperations);
+        }
+    }
+
+    private void dropObsoleteIndexes(Class<?> entity, IndexOperations indexOperations) {
+        List<String> obsolete = OBSOLETE_INDEXES.getOrDefault(entity, List.of());
+
+        for (IndexInfo index : indexOperations.getIndexInfo()) {
+            if (obsolete.contains(index.getName())) {
+                indexOperations.dropIndex(index.getName());
+                log.info("Dropped the obsolete index {} of {}", index.getName(), entity.getSimpleName());
+            }
+        }
+    }
+}
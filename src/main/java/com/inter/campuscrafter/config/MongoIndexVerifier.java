@@ -0,0 +1,99 @@
+package com.inter.campuscrafter.config;
+
+import com.inter.campuscrafter.entities.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Logs the plan MongoDB picks for each repository query, warning about collection scans. Runs after
+// MongoIndexCreator, so it sees the indexes the entities declare.
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mongo.index-verification.enabled", havingValue = "true")
+public class MongoIndexVerifier implements ApplicationRunner {
+    private static final List<RepositoryQuery> REPOSITORY_QUERIES = List.of(
+            new RepositoryQuery("CourseRepository.findAllByStatusAndTeacherId", "courses",
+                    new Document("status", CourseStatus.ACTIVE.name()).append("teacherId", "")),
+            new RepositoryQuery("CourseRepository.findAllByStatus", "courses",
+                    new Document("status", CourseStatus.ACTIVE.name())),
+            new RepositoryQuery("CourseRepository.findAllByTeacherId", "courses",
+                    new Document("teacherId", "")),
+            new RepositoryQuery("AssignmentRepository.findAllByCourseId/deleteAllByCourseId", "assignments",
+                    new Document("courseId", "")),
+            new RepositoryQuery("GradeRepository.findByStudentId/deleteAllByStudentId", "grades",
+                    new Document("studentId", "")),
+            new RepositoryQuery("GradeRepository.findByAssignmentId", "grades",
+                    new Document("assignmentId", "")),
+            new RepositoryQuery("GradeRepository.findFirstByAssignmentIdOrderByScoreAsc/Desc", "grades",
+                    new Document("assignmentId", "").append("score", new Document("$gte", 0))),
+            new RepositoryQuery("GradeStatisticsRepository.findAllByCourseIdAndScope", "grade_statistics",
+                    new Document("courseId", "").append("scope", StatisticsScope.ASSIGNMENT.name())),
+            new RepositoryQuery("UserRepository.findByEmail", "user_profiles",
+                    new Document("email", "")),
+            new RepositoryQuery("EnrollmentRepository.existsByStudentIdAndCourseId", "enrollments",
+                    new Document("studentId", "").append("courseId", "")),
+            new RepositoryQuery("EnrollmentRepository.findAllByStudentId/deleteAllByStudentId", "enrollments",
+                    new Document("studentId", "")),
+            new RepositoryQuery("EnrollmentRepository.findAllByCourseId/deleteAllByCourseId", "enrollments",
+                    new Document("courseId", "")),
+            new RepositoryQuery("DeletionTaskRepository.findAllByStatusIn", "deletion_tasks",
+                    new Document("status", new Document("$in", List.of(DeletionStatus.PENDING.name())))));
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (RepositoryQuery query : REPOSITORY_QUERIES) {
+            logPlan(query);
+        }
+    }
+
+    private void logPlan(RepositoryQuery query) {
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                new Document("find", query.collection()).append("filter", query.filter()))
+                .append("verbosity", "queryPlanner"));
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+        List<String> stages = new ArrayList<>();
+        List<String> indexNames = new ArrayList<>();
+        collectStages(winningPlan, stages, indexNames);
+
+        if (stages.contains("COLLSCAN")) {
+            log.warn("{} runs a collection scan on '{}': {}", query.method(), query.collection(), stages);
+        } else {
+            log.info("{} uses index {} on '{}': {}", query.method(), indexNames, query.collection(), stages);
+        }
+    }
+
+    private void collectStages(Document plan, List<String> stages, List<String> indexNames) {
+        if (plan == null) {
+            return;
+        }
+
+        stages.add(plan.getString("stage"));
+
+        if (plan.containsKey("indexName")) {
+            indexNames.add(plan.getString("indexName"));
+        }
+
+        collectStages(plan.get("inputStage", Document.class), stages, indexNames);
+
+        for (Document inputStage : plan.getList("inputStages", Document.class, List.of())) {
+            collectStages(inputStage, stages, indexNames);
+        }
+    }
+
+    private record RepositoryQuery(String method, String collection, Document filter) {
+    }
+}
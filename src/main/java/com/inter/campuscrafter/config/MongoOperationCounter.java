@@ -0,0 +1,92 @@
+package com.inter.campuscrafter.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// The synchronous driver notifies command listeners on the thread that sent the command, so commands are
+// attributed to whatever the current thread started counting. Reactive queries run on driver threads and
+// are not attributed to a request. MongoCommandProfiler keeps its per-request shapes in the same thread-local
+// record, so both see a request the same way.
+@Component
+public class MongoOperationCounter implements CommandListener {
+    private final ThreadLocal<RequestCommands> currentRequest = new ThreadLocal<>();
+
+    public void beginRequest(String requestId, String request) {
+        currentRequest.set(new RequestCommands(requestId, request));
+    }
+
+    public RequestCommands endRequest() {
+        RequestCommands requestCommands = currentRequest.get();
+        currentRequest.remove();
+        return requestCommands;
+    }
+
+    public RequestCommands currentRequest() {
+        return currentRequest.get();
+    }
+
+    // Counts from here to stop() within the request begun on this thread, or on its own when none was.
+    public void start() {
+        RequestCommands requestCommands = currentRequest.get();
+
+        if (requestCommands == null) {
+            requestCommands = new RequestCommands(null, null);
+            currentRequest.set(requestCommands);
+        }
+        requestCommands.countedFrom = requestCommands.operations;
+    }
+
+    public int stop() {
+        RequestCommands requestCommands = currentRequest.get();
+
+        if (requestCommands == null || requestCommands.countedFrom < 0) {
+            return 0;
+        }
+
+        int count = requestCommands.operations - requestCommands.countedFrom;
+        requestCommands.countedFrom = -1;
+
+        if (requestCommands.requestId() == null) {
+            currentRequest.remove();
+        }
+        return count;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        RequestCommands requestCommands = currentRequest.get();
+
+        if (requestCommands != null) {
+            requestCommands.operations++;
+        }
+    }
+
+    public static final class RequestCommands {
+        private final String requestId;
+        private final String request;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int operations;
+        private int countedFrom = -1;
+
+        private RequestCommands(String requestId, String request) {
+            this.requestId = requestId;
+            this.request = request;
+        }
+
+        public String requestId() {
+            return requestId;
+        }
+
+        public String request() {
+            return request;
+        }
+
+        public Map<String, Integer> shapes() {
+            return shapes;
+        }
+    }
+}
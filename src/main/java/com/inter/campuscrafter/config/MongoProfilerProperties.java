@@ -0,0 +1,18 @@
+package com.inter.campuscrafter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("mongo.profiler")
+public record MongoProfilerProperties(boolean enabled,
+                                      Duration slowThreshold,
+                                      int bufferSize,
+                                      int repeatedQueryThreshold,
+                                      boolean explainSlowCommands) {
+    public MongoProfilerProperties {
+        slowThreshold = slowThreshold == null ? Duration.ofMillis(100) : slowThreshold;
+        bufferSize = bufferSize > 0 ? bufferSize : 200;
+        repeatedQueryThreshold = repeatedQueryThreshold > 0 ? repeatedQueryThreshold : 10;
+    }
+}
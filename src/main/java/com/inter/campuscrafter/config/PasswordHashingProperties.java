@@ -0,0 +1,12 @@
+package com.inter.campuscrafter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("password-hashing")
+public record PasswordHashingProperties(int threads, int queueCapacity, int strength) {
+    public PasswordHashingProperties {
+        threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        queueCapacity = Math.max(queueCapacity, 0);
+        strength = strength > 0 ? strength : 10;
+    }
+}
@@ -0,0 +1,87 @@
+package com.inter.campuscrafter.config;
+
+import com.inter.campuscrafter.repositories.interfaces.CourseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.reactivestreams.Publisher;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Wraps every bean that implements one of the interfaces in repositories.interfaces, whichever profile provided
+// it, and times the blocking methods of that interface. Reactive methods only assemble a publisher and are skipped.
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+    private static final String REPOSITORY_PACKAGE = CourseRepository.class.getPackageName();
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Optional<Class<?>> repositoryInterface = ClassUtils.getAllInterfacesAsSet(bean).stream()
+                .filter(type -> type.getPackageName().equals(REPOSITORY_PACKAGE))
+                .findFirst();
+
+        if (repositoryInterface.isEmpty()) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(new RepositoryTimer(repositoryInterface.get()));
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private class RepositoryTimer implements MethodInterceptor {
+        private final Class<?> repositoryInterface;
+        private final Map<Method, Boolean> timedMethods = new ConcurrentHashMap<>();
+
+        RepositoryTimer(Class<?> repositoryInterface) {
+            this.repositoryInterface = repositoryInterface;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+
+            if (!timedMethods.computeIfAbsent(method, this::isTimed)) {
+                return invocation.proceed();
+            }
+
+            MeterRegistry registry = meterRegistry.getObject();
+            Timer.Sample sample = Timer.start(registry);
+            String exception = "none";
+
+            try {
+                return invocation.proceed();
+            } catch (Throwable throwable) {
+                exception = throwable.getClass().getSimpleName();
+                throw throwable;
+            } finally {
+                sample.stop(Timer.builder("repository.method")
+                        .description("Time spent in a repository method")
+                        .tag("repository", repositoryInterface.getSimpleName())
+                        .tag("method", method.getName())
+                        .tag("exception", exception)
+                        .register(registry));
+            }
+        }
+
+        // The proxy may report a method through any interface that declares it, so membership is checked by signature.
+        private boolean isTimed(Method method) {
+            return !Publisher.class.isAssignableFrom(method.getReturnType())
+                    && ReflectionUtils.findMethod(repositoryInterface, method.getName(), method.getParameterTypes()) != null;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.inter.campuscrafter.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inter.campuscrafter.entities.*;
+import com.inter.campuscrafter.repositories.interfaces.*;
+import com.inter.campuscrafter.services.GradeStatisticsService;
+import com.inter.campuscrafter.services.TranscriptService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+// Runs after the migrations: it writes data in the current shape and derives its statistics and transcripts itself,
+// since the bulk inserts bypass the services that maintain them.
+@Slf4j
+@Component
+@Order(5)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "synthetic-data.enabled", havingValue = "true")
+public class SyntheticDataGenerator implements CommandLineRunner {
+    private static final String EMAIL_DOMAIN = "@campus.test";
+
+    private final SyntheticDataProperties properties;
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final GradeRepository gradeRepository;
+    private final GradeStatisticsService gradeStatisticsService;
+    private final TranscriptService transcriptService;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(String... args) throws IOException {
+        if (userRepository.findByEmail(email("teacher", 0)).isPresent()) {
+            log.info("Synthetic campus already present, keeping the manifest at {}", properties.manifest().toAbsolutePath());
+            return;
+        }
+
+        long started = System.nanoTime();
+        // Every account shares one hash; hashing each password separately would take longer than the rest of the run.
+        String passwordHash = passwordEncoder.encode(properties.password());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(properties.parallelism(),
+                Thread.ofVirtual().name("synthetic-data-", 0).factory())) {
+            List<User> teachers = insertInBatches(executor, properties.teachers(),
+                    index -> teacher(index, passwordHash), userRepository::saveAll);
+            List<Course> courses = insertInBatches(executor, properties.courses(),
+                    index -> course(index, teachers), courseRepository::saveAll);
+            List<Assignment> assignments = insertInBatches(executor, properties.assignments(),
+                    index -> assignment(index, courses), assignmentRepository::saveAll);
+            List<Student> students = insertInBatches(executor, properties.students(),
+                    index -> student(index, passwordHash), userRepository::saveAll);
+
+            log.info("Generated {} teachers, {} courses, {} assignments and {} students in {} ms", teachers.size(),
+                    courses.size(), assignments.size(), students.size(), (System.nanoTime() - started) / 1_000_000);
+
+            List<List<Assignment>> assignmentsByCourse = new ArrayList<>();
+            List<List<Integer>> studentsByCourse = new ArrayList<>();
+
+            for (int i = 0; i < courses.size(); i++) {
+                assignmentsByCourse.add(new ArrayList<>());
+                studentsByCourse.add(Collections.synchronizedList(new ArrayList<>()));
+            }
+            for (int i = 0; i < assignments.size(); i++) {
+                assignmentsByCourse.get(i % courses.size()).add(assignments.get(i));
+            }
+
+            double[] popularity = cumulativePopularity(courses.size());
+            int studentsPerTask = Math.max(1, properties.batchSize() / properties.coursesPerStudent());
+            List<Future<Written>> tasks = new ArrayList<>();
+
+            for (int from = 0; from < students.size(); from += studentsPerTask) {
+                int start = from;
+                int end = Math.min(students.size(), from + studentsPerTask);
+                tasks.add(executor.submit(() -> enrollAndGrade(start, end, students, courses, assignmentsByCourse,
+                        popularity, studentsByCourse)));
+            }
+
+            long enrollments = 0;
+            long grades = 0;
+
+            for (Future<Written> task : tasks) {
+                Written written = await(task);
+                enrollments += written.enrollments();
+                grades += written.grades();
+            }
+
+            log.info("Generated {} enrollments and {} grades in {} ms", enrollments, grades,
+                    (System.nanoTime() - started) / 1_000_000);
+
+            long derivedFrom = System.nanoTime();
+            recomputeStatistics(executor, assignmentsByCourse);
+            int transcripts = transcriptService.refreshAll(students.stream().map(Student::getId).toList());
+
+            log.info("Computed the statistics of {} assignments and refreshed {} of {} transcripts in {} ms",
+                    assignments.size(), transcripts, students.size(), (System.nanoTime() - derivedFrom) / 1_000_000);
+
+            writeManifest(teachers, students, courses, assignmentsByCourse, studentsByCourse);
+        }
+    }
+
+    private <T> List<T> insertInBatches(ExecutorService executor,
+                                        int count,
+                                        IntFunction<T> factory,
+                                        Function<List<T>, List<T>> writer) {
+        List<Future<List<T>>> batches = new ArrayList<>();
+
+        for (int from = 0; from < count; from += properties.batchSize()) {
+            int start = from;
+            int end = Math.min(count, from + properties.batchSize());
+            batches.add(executor.submit(() -> writer.apply(IntStream.range(start, end).mapToObj(factory).toList())));
+        }
+
+        List<T> saved = new ArrayList<>(count);
+        for (Future<List<T>> batch : batches) {
+            saved.addAll(await(batch));
+        }
+        return saved;
+    }
+
+    // One task per course, so each takes the course's statistics lock once.
+    private void recomputeStatistics(ExecutorService executor, List<List<Assignment>> assignmentsByCourse) {
+        List<Future<?>> tasks = new ArrayList<>();
+
+        for (List<Assignment> assignments : assignmentsByCourse) {
+            List<String> assignmentIds = assignments.stream().map(Assignment::getId).toList();
+            tasks.add(executor.submit(() -> gradeStatisticsService.recompute(assignmentIds)));
+        }
+        tasks.forEach(SyntheticDataGenerator::await);
+    }
+
+    private Written enrollAndGrade(int from,
+                                   int to,
+                                   List<Student> students,
+                                   List<Course> courses,
+                                   List<List<Assignment>> assignmentsByCourse,
+                                   double[] popularity,
+                                   List<List<Integer>> studentsByCourse) {
+        // Seeded per slice of students, so the same settings produce the same campus however the tasks are scheduled.
+        SplittableRandom random = new SplittableRandom(properties.seed() + from);
+        List<Enrollment> enrollments = new ArrayList<>();
+        List<Grade> grades = new ArrayList<>();
+        long gradesWritten = 0;
+
+        for (int index = from; index < to; index++) {
+            Student student = students.get(index);
+            double ability = 0.55 + 0.4 * random.nextDouble();
+
+            for (int course : pickCourses(random, popularity)) {
+                enrollments.add(new Enrollment(student.getId(), courses.get(course).getId()));
+                studentsByCourse.get(course).add(index);
+
+                for (Assignment assignment : assignmentsByCourse.get(course)) {
+                    if (random.nextDouble() < properties.submissionRate()) {
+                        grades.add(grade(student, assignment, ability, random));
+                    }
+                }
+            }
+
+            if (grades.size() >= properties.batchSize()) {
+                gradesWritten += insertGrades(grades);
+                grades.clear();
+            }
+        }
+
+        enrollmentRepository.saveAll(enrollments);
+        gradesWritten += insertGrades(grades);
+        return new Written(enrollments.size(), gradesWritten);
+    }
+
+    private long insertGrades(List<Grade> grades) {
+        if (grades.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, String> failures = gradeRepository.insertAll(grades);
+
+        if (!failures.isEmpty()) {
+            log.warn("{} of {} synthetic grades were rejected: {}", failures.size(), grades.size(),
+                    failures.values().iterator().next());
+        }
+        return grades.size() - failures.size();
+    }
+
+    // Course i is picked with a weight of 1 / (i + 1)^skew, so a few courses attract most of the enrollments.
+    private double[] cumulativePopularity(int courseCount) {
+        double[] cumulative = new double[courseCount];
+        double total = 0;
+
+        for (int i = 0; i < courseCount; i++) {
+            total += 1 / Math.pow(i + 1, properties.popularitySkew());
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < courseCount; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private Set<Integer> pickCourses(SplittableRandom random, double[] popularity) {
+        int wanted = Math.min(1 + random.nextInt(2 * properties.coursesPerStudent() - 1), popularity.length);
+        Set<Integer> picked = new LinkedHashSet<>();
+
+        for (int attempt = 0; picked.size() < wanted && attempt < 20 * wanted; attempt++) {
+            int position = Arrays.binarySearch(popularity, random.nextDouble());
+            picked.add(Math.min(position >= 0 ? position : -position - 1, popularity.length - 1));
+        }
+        return picked;
+    }
+
+    private User teacher(int index, String passwordHash) {
+        User teacher = new User();
+        teacher.setName("Teacher " + index);
+        teacher.setEmail(email("teacher", index));
+        teacher.setPassword(passwordHash);
+        teacher.setUserRole(UserRole.TEACHER);
+        teacher.setDateJoined(LocalDateTime.now());
+        return teacher;
+    }
+
+    private Student student(int index, String passwordHash) {
+        Student student = new Student();
+        student.setName("Student " + index);
+        student.setEmail(email("student", index));
+        student.setPassword(passwordHash);
+        student.setDateJoined(LocalDateTime.now());
+        return student;
+    }
+
+    private Course course(int index, List<User> teachers) {
+        Course course = new Course();
+        course.setTitle("Course " + index);
+        course.setDescription("Synthetic course " + index);
+        course.setTeacherId(teachers.get(teacherOf(index)).getId());
+        course.setStartDate(LocalDate.now().minusWeeks(index % 16));
+        course.setCredits(2 + index % 5);
+        course.setEnrollmentLimit(500);
+        course.setStatus(switch (index % 10) {
+            case 8 -> CourseStatus.COMPLETED;
+            case 9 -> CourseStatus.UPCOMING;
+            default -> CourseStatus.ACTIVE;
+        });
+        return course;
+    }
+
+    private Assignment assignment(int index, List<Course> courses) {
+        LocalDateTime postedDate = LocalDateTime.now().minusDays(30 + index % 60);
+
+        Assignment assignment = new Assignment();
+        assignment.setTitle("Assignment " + index / courses.size());
+        assignment.setContent("Synthetic assignment " + index);
+        assignment.setCourseId(courses.get(index % courses.size()).getId());
+        assignment.setPostedDate(postedDate);
+        assignment.setDueDate(postedDate.plusDays(14));
+        assignment.setMaxScore(100);
+        assignment.setSubmissionFormat("pdf");
+        return assignment;
+    }
+
+    private Grade grade(Student student, Assignment assignment, double ability, SplittableRandom random) {
+        int maxScore = assignment.getMaxScore();
+        long score = Math.round(maxScore * (ability + 0.1 * random.nextGaussian()));
+
+        Grade grade = new Grade();
+        grade.setStudentId(student.getId());
+        grade.setAssignmentId(assignment.getId());
+        grade.setScore((int) Math.max(0, Math.min(score, maxScore)));
+        grade.setSubmissionDate(assignment.getDueDate().minusMinutes(random.nextInt(7 * 24 * 60)));
+        return grade;
+    }
+
+    private void writeManifest(List<User> teachers,
+                               List<Student> students,
+                               List<Course> courses,
+                               List<List<Assignment>> assignmentsByCourse,
+                               List<List<Integer>> studentsByCourse) throws IOException {
+        List<CourseEntry> courseEntries = new ArrayList<>(courses.size());
+
+        for (int i = 0; i < courses.size(); i++) {
+            List<Integer> enrolled = new ArrayList<>(studentsByCourse.get(i));
+            Collections.sort(enrolled);
+            courseEntries.add(new CourseEntry(courses.get(i).getId(), teacherOf(i),
+                    assignmentsByCourse.get(i).stream().map(Assignment::getId).toList(), enrolled));
+        }
+
+        Path manifest = properties.manifest().toAbsolutePath();
+        Files.createDirectories(manifest.getParent());
+        objectMapper.writeValue(manifest.toFile(), new Manifest(accounts(teachers), accounts(students), courseEntries));
+
+        log.info("Wrote the synthetic campus manifest to {}", manifest);
+    }
+
+    private int teacherOf(int courseIndex) {
+        return courseIndex % properties.teachers();
+    }
+
+    private static List<Account> accounts(List<? extends User> users) {
+        return users.stream().map(user -> new Account(user.getId(), user.getEmail())).toList();
+    }
+
+    private static String email(String role, int index) {
+        return role + index + EMAIL_DOMAIN;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Synthetic data generation failed", exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating synthetic data", exception);
+        }
+    }
+
+    private record Written(long enrollments, long grades) {
+    }
+
+    private record Manifest(List<Account> teachers, List<Account> students, List<CourseEntry> courses) {
+    }
+
+    private record Account(String id, String email) {
+    }
+
+    private record CourseEntry(String id, int teacher, List<String> assignments, List<Integer> students) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.inter.campuscrafter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties("synthetic-data")
+public record SyntheticDataProperties(boolean enabled,
+                                      int students,
+                                      int teachers,
+                                      int courses,
+                                      int assignments,
+                                      int coursesPerStudent,
+                                      double popularitySkew,
+                                      double submissionRate,
+                                      int batchSize,
+                                      int parallelism,
+                                      long seed,
+                                      String password,
+                                      Path manifest) {
+    public SyntheticDataProperties {
+        students = Math.max(students, 0);
+        teachers = Math.max(teachers, 1);
+        courses = Math.max(courses, 1);
+        assignments = Math.max(assignments, 0);
+        coursesPerStudent = Math.max(1, Math.min(coursesPerStudent, courses));
+        submissionRate = Math.max(0, Math.min(submissionRate, 1));
+        batchSize = batchSize > 0 ? batchSize : 1000;
+        parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        password = password == null ? "password" : password;
+        manifest = manifest == null ? Path.of("synthetic-campus.json") : manifest;
+    }
+}
@@ -0,0 +1,38 @@
+package com.inter.campuscrafter.config;
+
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.entities.UserRole;
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import com.inter.campuscrafter.services.TranscriptService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@Order(4)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migrations.transcript-rebuild", havingValue = "true")
+public class TranscriptRebuild implements CommandLineRunner {
+    private final UserRepository userRepository;
+    private final TranscriptService transcriptService;
+
+    @Override
+    public void run(String... args) {
+        List<String> studentIds = userRepository.findAll().stream()
+                .filter(user -> user.hasRole(UserRole.STUDENT))
+                .map(User::getId)
+                .toList();
+
+        long started = System.nanoTime();
+        int rebuilt = transcriptService.refreshAll(studentIds);
+
+        log.info("Rebuilt {} of {} transcripts in {} ms", rebuilt, studentIds.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
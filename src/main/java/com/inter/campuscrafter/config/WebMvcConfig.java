@@ -0,0 +1,21 @@
+package com.inter.campuscrafter.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final ControllerMetricsInterceptor controllerMetricsInterceptor;
+    private final BulkheadInterceptor bulkheadInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(controllerMetricsInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(bulkheadInterceptor).addPathPatterns("/api/**");
+    }
+}
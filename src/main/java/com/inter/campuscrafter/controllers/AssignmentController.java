@@ -1,12 +1,18 @@
 package com.inter.campuscrafter.controllers;
 
 import com.inter.campuscrafter.dtos.AssignmentDto;
+import com.inter.campuscrafter.dtos.AssignmentPatchDto;
 import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.entities.Course;
 import com.inter.campuscrafter.entities.User;
 import com.inter.campuscrafter.entities.UserRole;
+import com.inter.campuscrafter.exceptions.AssignmentNotFoundException;
 import com.inter.campuscrafter.exceptions.CourseNotFoundException;
+import com.inter.campuscrafter.mappers.AssignmentMapper;
 import com.inter.campuscrafter.services.AssignmentService;
 import com.inter.campuscrafter.services.CourseService;
+import com.inter.campuscrafter.services.GradeStatisticsService;
+import com.inter.campuscrafter.services.TranscriptService;
 import com.inter.campuscrafter.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,13 +20,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -31,8 +40,10 @@ import java.util.List;
 public class AssignmentController {
     private final AssignmentService assignmentService;
     private final CourseService courseService;
-    private final ModelMapper modelMapper;
+    private final AssignmentMapper assignmentMapper;
     private final UserService userService;
+    private final TranscriptService transcriptService;
+    private final GradeStatisticsService gradeStatisticsService;
 
     @GetMapping("/courses/{courseId}/assignments")
     @Operation(description = "Fetches all assignments based on the provided course ID. Accessible by students, teachers, and admins.")
@@ -54,6 +65,28 @@ public class AssignmentController {
         return ResponseEntity.ok(allAssignmentDtosByCourseId);
     }
 
+    @GetMapping(value = "/courses/{courseId}/assignments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Streams all assignments of the provided course as newline-delimited JSON. The enrollment check and the assignment query run concurrently on non-blocking drivers. Same access rules as the JSON variant.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Assignments streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access"),
+            @ApiResponse(responseCode = "403", description = "Access forbidden")
+    })
+    @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
+    public Flux<AssignmentDto> streamAllAssignmentsByCourseId(@PathVariable String courseId,
+                                                              Authentication authentication) {
+        User principal = (User) authentication.getPrincipal();
+        Mono<Boolean> authorized = principal.hasRole(UserRole.STUDENT)
+                ? Mono.just(true)
+                : userService.checkEnrolledInCourse(principal.getId(), courseId);
+
+        return Mono.zip(authorized, assignmentService.streamAllAssignmentsByCourseId(courseId).collectList())
+                .flatMapMany(result -> result.getT1()
+                        ? Flux.fromIterable(result.getT2())
+                        : Flux.error(new AccessDeniedException("Not authorized to get this course.")))
+                .map(this::mapAssignmentToAssignmentDto);
+    }
+
     @PostMapping("/courses/{courseId}/assignments")
     @Operation(description = "Creates a new assignment for the specified course. Accessible by teachers and admins.")
     @ApiResponses(value = {
@@ -66,11 +99,12 @@ public class AssignmentController {
     public ResponseEntity<AssignmentDto> getAllAssignmentsByCourseId(@PathVariable String courseId,
                                                                      @RequestBody @Valid AssignmentDto assignmentDto,
                                                                      Authentication authentication) {
-        if (!courseService.courseExists(courseId)) {
+        Course course = courseService.getCourseById(courseId);
+        if (course == null) {
             throw new CourseNotFoundException("Course " + courseId + " not found");
         }
         User principal = (User) authentication.getPrincipal();
-        courseService.isAuthorized(courseId, principal, "Not authorized to add assignment to this course.");
+        courseService.isAuthorized(course, principal, "Not authorized to add assignment to this course.");
         Assignment assignment = mapAssignmentDtoTOAssignment(assignmentDto);
         Assignment createdAssignment = assignmentService.createAssignmentsByCourseId(courseId, assignment);
         AssignmentDto createdAssignmentDto = mapAssignmentToAssignmentDto(createdAssignment);
@@ -92,16 +126,55 @@ public class AssignmentController {
         User principal = (User) authentication.getPrincipal();
         courseService.isAuthorized(assignmentDto.getCourseId(), principal, "Not authorized to update assignment for this course.");
         Assignment assignment = mapAssignmentDtoTOAssignment(assignmentDto);
+        Assignment previousAssignment = assignmentService.getAssignmentById(id);
         Assignment updatedAssignmentById = assignmentService.updateAssignmentById(id, assignment);
         if (updatedAssignmentById == null) {
             return ResponseEntity.notFound().build();
         }
 
+        rescaleIfMaxScoreChanged(previousAssignment, updatedAssignmentById);
+
         AssignmentDto updatedAssignmentDto = mapAssignmentToAssignmentDto(updatedAssignmentById);
 
         return ResponseEntity.ok(updatedAssignmentDto);
     }
 
+    @PatchMapping("/assignments/{id}")
+    @Operation(description = "Changes only the fields present in the body of the assignment specified by ID. The version being edited is sent in If-Match or as 'version' in the body; the update is rejected if the assignment has changed since. Accessible by the teacher who created the assignment and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Assignment updated successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access"),
+            @ApiResponse(responseCode = "403", description = "Forbidden access"),
+            @ApiResponse(responseCode = "404", description = "Assignment not found"),
+            @ApiResponse(responseCode = "409", description = "Assignment was changed by another request"),
+            @ApiResponse(responseCode = "428", description = "No version sent")
+    })
+    @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
+    public ResponseEntity<AssignmentDto> patchAssignment(@PathVariable String id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         @RequestBody @Valid AssignmentPatchDto assignmentPatchDto,
+                                                         Authentication authentication) {
+        Assignment assignment = assignmentService.getAssignmentById(id);
+        if (assignment == null) {
+            throw new AssignmentNotFoundException("Assignment " + id + " not found");
+        }
+        User principal = (User) authentication.getPrincipal();
+        courseService.isAuthorized(assignment.getCourseId(), principal, "Not authorized to update assignment for this course.");
+
+        Long expectedVersion = Versions.expectedVersion(ifMatch, assignmentPatchDto.getVersion());
+        Assignment updatedAssignment = assignmentService.patchAssignment(id, expectedVersion,
+                assignmentMapper.toFields(assignmentPatchDto));
+        if (updatedAssignment == null) {
+            throw new AssignmentNotFoundException("Assignment " + id + " not found");
+        }
+
+        rescaleIfMaxScoreChanged(assignment, updatedAssignment);
+
+        return ResponseEntity.ok()
+                .eTag(Versions.eTag(updatedAssignment.getVersion()))
+                .body(mapAssignmentToAssignmentDto(updatedAssignment));
+    }
+
     @DeleteMapping("/assignments/{id}")
     @Operation(description = "Deletes the assignment specified by ID. Accessible by the teacher who created the assignment and admins.")
     @ApiResponses(value = {
@@ -112,15 +185,30 @@ public class AssignmentController {
     })
     @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
     public ResponseEntity<Void> deleteAssignmentById(@PathVariable String id) {
+        Assignment assignment = assignmentService.getAssignmentById(id);
         assignmentService.deleteAssignmentById(id);
+
+        if (assignment != null) {
+            gradeStatisticsService.deleteAssignmentStatistics(assignment);
+        }
+        transcriptService.scheduleRefreshOfAssignment(id);
         return ResponseEntity.ok().build();
     }
 
+    // Statistics bucket every grade by its share of the max score and transcripts add up the possible points,
+    // so of the assignment's fields only the max score changes either of them.
+    private void rescaleIfMaxScoreChanged(Assignment previousAssignment, Assignment updatedAssignment) {
+        if (previousAssignment == null || previousAssignment.getMaxScore() != updatedAssignment.getMaxScore()) {
+            gradeStatisticsService.recompute(List.of(updatedAssignment.getId()));
+            transcriptService.scheduleRefreshOfAssignment(updatedAssignment.getId());
+        }
+    }
+
     private Assignment mapAssignmentDtoTOAssignment(AssignmentDto assignmentDto) {
-        return modelMapper.map(assignmentDto, Assignment.class);
+        return assignmentMapper.toEntity(assignmentDto);
     }
 
     private AssignmentDto mapAssignmentToAssignmentDto(Assignment assignment) {
-        return modelMapper.map(assignment, AssignmentDto.class);
+        return assignmentMapper.toDto(assignment);
     }
 }
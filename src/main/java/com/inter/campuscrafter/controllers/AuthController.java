@@ -4,8 +4,10 @@ import com.inter.campuscrafter.dtos.LoginUserDto;
 import com.inter.campuscrafter.dtos.RegisterUserDto;
 import com.inter.campuscrafter.dtos.UserDto;
 import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.mappers.UserMapper;
 import com.inter.campuscrafter.responses.LoginResponse;
 import com.inter.campuscrafter.services.JwtService;
+import com.inter.campuscrafter.services.TokenRevocationService;
 import com.inter.campuscrafter.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,15 +15,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -29,9 +27,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthController {
     private final JwtService jwtService;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/register")
     @Operation(description = "Allows admin to create a new user account. Requires admin role.")
@@ -65,16 +64,31 @@ public class AuthController {
         return ResponseEntity.ok(loginResponse);
     }
 
+    @PostMapping("/logout")
+    @Operation(description = "Revokes the bearer token of the current session before it expires.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - Missing bearer token")})
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authHeader) {
+        if (!authHeader.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        tokenRevocationService.revoke(authHeader.substring(7));
+
+        return ResponseEntity.noContent().build();
+    }
+
     private UserDto mapUserToUserDto(User user) {
-        return modelMapper.map(user, UserDto.class);
+        return userMapper.toDto(user);
     }
 
     private User mapRegisterUserDtoToUser(RegisterUserDto newUserDto) {
-        return modelMapper.map(newUserDto, User.class);
+        return userMapper.toEntity(newUserDto);
     }
 
     private User mapLoginUserDtoToUser(LoginUserDto loginUserDto) {
-        return modelMapper.map(loginUserDto, User.class);
+        return userMapper.toEntity(loginUserDto);
     }
 
 }
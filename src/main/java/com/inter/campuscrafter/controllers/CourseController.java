@@ -1,34 +1,49 @@
 package com.inter.campuscrafter.controllers;
 
 import com.inter.campuscrafter.dtos.CourseDto;
+import com.inter.campuscrafter.dtos.CoursePatchDto;
+import com.inter.campuscrafter.dtos.CourseSummaryDto;
+import com.inter.campuscrafter.dtos.DeletionTaskDto;
 import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.entities.DeletionTask;
 import com.inter.campuscrafter.entities.User;
-import com.inter.campuscrafter.services.AssignmentService;
+import com.inter.campuscrafter.mappers.CourseMapper;
+import com.inter.campuscrafter.mappers.DeletionTaskMapper;
+import com.inter.campuscrafter.responses.PageResponse;
 import com.inter.campuscrafter.services.CourseService;
+import com.inter.campuscrafter.services.TranscriptService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/courses")
 @Tag(name = "Course Management", description = "Course Controller")
 @RequiredArgsConstructor
 public class CourseController {
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final CourseService courseService;
-    private final AssignmentService assignmentService;
-    private final ModelMapper modelMapper;
+    private final TranscriptService transcriptService;
+    private final CourseMapper courseMapper;
+    private final DeletionTaskMapper deletionTaskMapper;
 
     @GetMapping
     @Operation(description = "Retrieves a list of all courses with optional filters for status and teacher ID. Accessible by students, teachers, and admins.")
@@ -45,6 +60,47 @@ public class CourseController {
         return ResponseEntity.ok(courseDtos);
     }
 
+    @GetMapping(params = "limit")
+    @Operation(description = "Retrieves one page of courses ordered by ID, with optional filters for status and teacher ID. Pass the returned next cursor as 'after' to fetch the following page; it is absent on the last page. Accessible by students, teachers, and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of courses"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access")
+    })
+    @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
+    public ResponseEntity<PageResponse<CourseDto>> getCoursePage(@RequestParam(required = false) String status,
+                                                                 @RequestParam(required = false) String teacherId,
+                                                                 @RequestParam int limit,
+                                                                 @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(getCoursePage(status, teacherId, limit, after, false, this::mapCourseToCourseDto));
+    }
+
+    @GetMapping(params = {"limit", "summary=true"})
+    @Operation(description = "Retrieves one page of course summaries (ID, title, teacher, start date and status) ordered by ID, with the same filters and cursor as the full variant. Accessible by students, teachers, and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of course summaries"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access")
+    })
+    @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
+    public ResponseEntity<PageResponse<CourseSummaryDto>> getCourseSummaryPage(@RequestParam(required = false) String status,
+                                                                               @RequestParam(required = false) String teacherId,
+                                                                               @RequestParam int limit,
+                                                                               @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(getCoursePage(status, teacherId, limit, after, true, this::mapCourseToCourseSummaryDto));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Streams all courses as newline-delimited JSON, one course per line, with the same optional filters as the JSON variant. Courses are read from a non-blocking cursor and written as the client consumes them. Accessible by students, teachers, and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courses streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized access")
+    })
+    @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
+    public Flux<CourseDto> streamAllCourses(@RequestParam(required = false) String status,
+                                            @RequestParam(required = false) String teacherId) {
+        return courseService.streamAllCourses(Optional.ofNullable(status), Optional.ofNullable(teacherId))
+                .map(this::mapCourseToCourseDto);
+    }
+
     @GetMapping("/{id}")
     @Operation(description = "Retrieves detailed information about a specific course. Accessible by students, teachers, and admins.")
     @ApiResponses(value = {
@@ -52,16 +108,10 @@ public class CourseController {
             @ApiResponse(responseCode = "404", description = "Course not found")
     })
     @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
-    public ResponseEntity<CourseDto> getCourseById(@PathVariable String id) {
-        Course courseById = courseService.getCourseById(id);
-
-        if (courseById == null) {
-            return ResponseEntity.notFound().build();
-        }
-
-        CourseDto courseDto = mapCourseToCourseDto(courseById);
-
-        return ResponseEntity.ok(courseDto);
+    public Mono<ResponseEntity<CourseDto>> getCourseById(@PathVariable String id) {
+        return courseService.findCourseById(id)
+                .map(course -> ResponseEntity.ok(mapCourseToCourseDto(course)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @PostMapping
@@ -92,39 +142,91 @@ public class CourseController {
                                                    Authentication authentication) {
         User principal = (User) authentication.getPrincipal();
         Course course = mapCourseDtoToCourse(updatedCourseDto);
+        Course previousCourse = courseService.getCourseById(id);
         Course updatedCourse = courseService.updateCourseById(id, course, principal);
 
         if (updatedCourse == null) {
             return ResponseEntity.notFound().build();
         }
 
+        refreshTranscriptsIfCreditsChanged(previousCourse, updatedCourse);
+
         CourseDto courseDto = mapCourseToCourseDto(updatedCourse);
 
         return ResponseEntity.ok(courseDto);
     }
 
+    @PatchMapping("/{id}")
+    @Operation(description = "Changes only the fields present in the body of the course specified by ID. The version being edited is sent in If-Match or as 'version' in the body; the update is rejected if the course has changed since. Accessible by the teacher who created the course and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Course updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Course not found"),
+            @ApiResponse(responseCode = "409", description = "Course was changed by another request"),
+            @ApiResponse(responseCode = "428", description = "No version sent")
+    })
+    @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
+    public ResponseEntity<CourseDto> patchCourse(@PathVariable String id,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                 @RequestBody @Valid CoursePatchDto coursePatchDto,
+                                                 Authentication authentication) {
+        User principal = (User) authentication.getPrincipal();
+        Long expectedVersion = Versions.expectedVersion(ifMatch, coursePatchDto.getVersion());
+        Course previousCourse = courseService.getCourseById(id);
+        Course updatedCourse = courseService.patchCourse(id, expectedVersion, courseMapper.toFields(coursePatchDto), principal);
+
+        refreshTranscriptsIfCreditsChanged(previousCourse, updatedCourse);
+
+        return ResponseEntity.ok()
+                .eTag(Versions.eTag(updatedCourse.getVersion()))
+                .body(mapCourseToCourseDto(updatedCourse));
+    }
+
     @DeleteMapping("/{id}")
-    @Operation(description = "Deletes the course specified by ID. Accessible by the teacher who created the course and admins.")
+    @Operation(description = "Deletes the course specified by ID. The course disappears immediately; its assignments, grades and enrollments are removed in the background and the progress can be followed at the returned location. Accessible by the teacher who created the course and admins.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Course deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Course deleted, dependent data is being removed"),
             @ApiResponse(responseCode = "404", description = "Course not found")
     })
     @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteCourse(@PathVariable String id,
-                                             Authentication authentication) {
+    public ResponseEntity<DeletionTaskDto> deleteCourse(@PathVariable String id,
+                                                        Authentication authentication) {
         User principal = (User) authentication.getPrincipal();
-        courseService.deleteCourse(id, principal);
-        assignmentService.deleteAllByCourseId(id);
+        DeletionTask deletionTask = courseService.deleteCourse(id, principal);
 
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/deletions/" + deletionTask.getId()))
+                .body(deletionTaskMapper.toDto(deletionTask));
+    }
+
+    // Transcripts weigh each course by its credits; the stored course title is left as it was until the next refresh.
+    private void refreshTranscriptsIfCreditsChanged(Course previousCourse, Course updatedCourse) {
+        if (previousCourse == null || previousCourse.getCredits() != updatedCourse.getCredits()) {
+            transcriptService.scheduleRefreshOfCourse(updatedCourse.getId());
+        }
     }
 
     private Course mapCourseDtoToCourse(CourseDto courseDto) {
-        return modelMapper.map(courseDto, Course.class);
+        return courseMapper.toEntity(courseDto);
+    }
+
+    // One course more than the page is read, so the cursor is only returned when another page really follows.
+    private <T> PageResponse<T> getCoursePage(String status, String teacherId, int limit, String after,
+                                              boolean summary, Function<Course, T> mapper) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Course> courses = courseService.getCoursePage(Optional.ofNullable(status),
+                Optional.ofNullable(teacherId), after, pageSize + 1, summary);
+        List<Course> page = courses.subList(0, Math.min(courses.size(), pageSize));
+        String next = courses.size() > pageSize ? page.getLast().getId() : null;
+
+        return new PageResponse<T>().setItems(page.stream().map(mapper).toList()).setNext(next);
     }
 
     private CourseDto mapCourseToCourseDto(Course course) {
-        return modelMapper.map(course, CourseDto.class);
+        return courseMapper.toDto(course);
+    }
+
+    private CourseSummaryDto mapCourseToCourseSummaryDto(Course course) {
+        return courseMapper.toSummaryDto(course);
     }
 
 
@@ -0,0 +1,36 @@
+package com.inter.campuscrafter.controllers;
+
+import com.inter.campuscrafter.dtos.DeletionTaskDto;
+import com.inter.campuscrafter.mappers.DeletionTaskMapper;
+import com.inter.campuscrafter.services.DeletionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/deletions")
+@Tag(name = "Deletion Tracking", description = "Deletion Controller")
+@RequiredArgsConstructor
+public class DeletionController {
+    private final DeletionService deletionService;
+    private final DeletionTaskMapper deletionTaskMapper;
+
+    @GetMapping("/{taskId}")
+    @Operation(description = "Reports the progress of a course or user deletion: the current step, how many dependent documents were removed so far, and the last error if a batch failed. Accessible by teachers and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the deletion progress"),
+            @ApiResponse(responseCode = "404", description = "Deletion task not found")
+    })
+    @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
+    public ResponseEntity<DeletionTaskDto> getDeletionTask(@PathVariable String taskId) {
+        return ResponseEntity.ok(deletionTaskMapper.toDto(deletionService.getTask(taskId)));
+    }
+}
@@ -1,43 +1,74 @@
 package com.inter.campuscrafter.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.inter.campuscrafter.dtos.GradeDto;
+import com.inter.campuscrafter.dtos.TranscriptDto;
 import com.inter.campuscrafter.entities.Grade;
 import com.inter.campuscrafter.entities.User;
 import com.inter.campuscrafter.entities.UserRole;
 import com.inter.campuscrafter.exceptions.AssignmentNotFoundException;
+import com.inter.campuscrafter.exceptions.CourseNotFoundException;
 import com.inter.campuscrafter.exceptions.UserNotFoundException;
+import com.inter.campuscrafter.mappers.GradeMapper;
+import com.inter.campuscrafter.mappers.TranscriptMapper;
+import com.inter.campuscrafter.responses.BulkGradeResponse;
+import com.inter.campuscrafter.responses.GradeStatisticsResponse;
 import com.inter.campuscrafter.services.AssignmentService;
 import com.inter.campuscrafter.services.CourseService;
 import com.inter.campuscrafter.services.GradeService;
+import com.inter.campuscrafter.services.GradeStatisticsService;
+import com.inter.campuscrafter.services.TranscriptService;
 import com.inter.campuscrafter.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
+@Validated
 @RestController
 @RequestMapping("/api")
 @Tag(name = "Grade Management", description = "Grade Controller")
 @RequiredArgsConstructor
 public class GradeController {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final GradeService gradeService;
+    private final GradeStatisticsService gradeStatisticsService;
+    private final TranscriptService transcriptService;
     private final AssignmentService assignmentService;
     private final CourseService courseService;
     private final UserService userService;
-    private final ModelMapper modelMapper;
+    private final GradeMapper gradeMapper;
+    private final TranscriptMapper transcriptMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping("/assignments/{assignmentId}/grades")
     @Operation(description = "Allows teachers or admins to submit grades for a specific assignment.")
@@ -50,12 +81,12 @@ public class GradeController {
     public ResponseEntity<GradeDto> getGrade(@PathVariable String assignmentId,
                                              @Valid GradeDto gradeDto,
                                              Authentication authentication) {
-        if (!assignmentService.assignmentExists(assignmentId)) {
+        var assignment = assignmentService.getAssignmentById(assignmentId);
+        if (assignment == null) {
             throw new AssignmentNotFoundException("Assignment " + assignmentId + " not found");
         }
 
         User principal = (User) authentication.getPrincipal();
-        var assignment = assignmentService.getAssignmentById(assignmentId);
         courseService.isAuthorized(assignment.getCourseId(), principal, "Not authorized to add grade to this assignment.");
         Grade grade = mapGradeDtoToGrade(gradeDto);
         Grade savedGrade = gradeService.createGrade(grade, assignmentId);
@@ -63,16 +94,202 @@ public class GradeController {
         return new ResponseEntity<>(savedGradeDto, HttpStatus.CREATED);
     }
 
+    @PostMapping("/assignments/{assignmentId}/grades/bulk")
+    @Operation(description = "Allows teachers or admins to submit grades for many students of one assignment at once. Every entry is validated on its own and the valid ones are written in a single unordered bulk insert, so one bad entry does not reject the rest.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Grades processed, see the per-item results"),
+            @ApiResponse(responseCode = "400", description = "Too many grades in one request, or a null entry"),
+            @ApiResponse(responseCode = "404", description = "Assignment not found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized to submit grades for this assignment")
+    })
+    @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
+    public ResponseEntity<BulkGradeResponse> createGrades(@PathVariable String assignmentId,
+                                                          @RequestBody List<@NotNull GradeDto> gradeDtos,
+                                                          Authentication authentication) {
+        if (gradeDtos.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_BULK_SIZE + " grades can be submitted at once");
+        }
+
+        var assignment = assignmentService.getAssignmentById(assignmentId);
+        if (assignment == null) {
+            throw new AssignmentNotFoundException("Assignment " + assignmentId + " not found");
+        }
+
+        User principal = (User) authentication.getPrincipal();
+        courseService.isAuthorized(assignment.getCourseId(), principal, "Not authorized to add grade to this assignment.");
+
+        List<BulkGradeResponse.Item> results = new ArrayList<>(gradeDtos.size());
+        List<BulkGradeResponse.Item> accepted = new ArrayList<>();
+        List<Grade> grades = new ArrayList<>();
+
+        for (int i = 0; i < gradeDtos.size(); i++) {
+            GradeDto gradeDto = gradeDtos.get(i);
+            BulkGradeResponse.Item item = new BulkGradeResponse.Item().setIndex(i);
+            results.add(item);
+
+            if (gradeDto.getAssignmentId() == null || gradeDto.getAssignmentId().isBlank()) {
+                gradeDto.setAssignmentId(assignmentId);
+            }
+
+            List<String> errors = validate(gradeDto, assignmentId);
+            if (!errors.isEmpty()) {
+                item.setErrors(errors);
+                continue;
+            }
+
+            accepted.add(item);
+            grades.add(mapGradeDtoToGrade(gradeDto));
+        }
+
+        Map<Integer, String> failures = gradeService.createGrades(grades, assignmentId);
+
+        for (int i = 0; i < accepted.size(); i++) {
+            String failure = failures.get(i);
+
+            if (failure == null) {
+                accepted.get(i).setGrade(mapGradeToGradeDto(grades.get(i)));
+            } else {
+                accepted.get(i).setErrors(List.of(failure));
+            }
+        }
+
+        int created = accepted.size() - failures.size();
+        return ResponseEntity.ok(new BulkGradeResponse()
+                .setCreated(created)
+                .setFailed(gradeDtos.size() - created)
+                .setResults(results));
+    }
+
     @GetMapping("/students/{studentId}/grades")
-    @Operation(description = "Retrieves all grades for a specified student. Accessible by students for their own grades, teachers for students in their courses, and admins.")
+    @Operation(description = "Retrieves all grades for a specified student, or one page of them when size (and optionally page) is given. Accessible by students for their own grades, teachers for students in their courses, and admins.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Grades retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Negative page or non-positive size"),
             @ApiResponse(responseCode = "404", description = "Student not found"),
             @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized to view these grades")
     })
     @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
     public ResponseEntity<List<GradeDto>> getAllGradesByStudentId(@PathVariable String studentId,
+                                                                  @RequestParam(required = false) @Min(0) Integer page,
+                                                                  @RequestParam(required = false) @Positive Integer size,
                                                                   Authentication authentication) {
+        checkGradesAccess(studentId, authentication);
+
+        List<Grade> grades = size == null
+                ? gradeService.getGrades(studentId)
+                : gradeService.getGrades(studentId, page == null ? 0 : page, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        List<GradeDto> gradeDtos = grades.stream().map(this::mapGradeToGradeDto).toList();
+        return ResponseEntity.ok(gradeDtos);
+    }
+
+    @GetMapping(value = "/students/{studentId}/grades", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(description = "Streams all grades for a specified student as newline-delimited JSON, one grade per line, straight from the database cursor. Same access rules as the JSON variant.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Grades streamed successfully"),
+            @ApiResponse(responseCode = "404", description = "Student not found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized to view these grades")
+    })
+    @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllGradesByStudentId(@PathVariable String studentId,
+                                                                            Authentication authentication) {
+        checkGradesAccess(studentId, authentication);
+
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<Grade> grades = gradeService.streamGrades(studentId);
+                 SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                Iterator<Grade> iterator = grades.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(mapGradeToGradeDto(iterator.next()));
+                }
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/students/{studentId}/transcript")
+    @Operation(description = "Returns the student's transcript: the percentage earned in every course with graded assignments and the credit-weighted overall percentage. The transcript is kept up to date as grades, assignments and courses change. Accessible by the student themselves, their teachers and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the transcript"),
+            @ApiResponse(responseCode = "404", description = "Student not found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized to view this transcript")
+    })
+    @PreAuthorize("hasAnyRole('STUDENT', 'TEACHER', 'ADMIN')")
+    public ResponseEntity<TranscriptDto> getTranscript(@PathVariable String studentId,
+                                                       Authentication authentication) {
+        checkGradesAccess(studentId, authentication);
+        return ResponseEntity.ok(transcriptMapper.toDto(transcriptService.getTranscript(studentId)));
+    }
+
+    @GetMapping("/assignments/{assignmentId}/statistics")
+    @Operation(description = "Returns count, mean, median, standard deviation, min, max, completion rate and a score histogram of an assignment. Scores are in points. The figures are kept up to date as grades change, so the grades themselves are not read. Accessible by the teacher of the course and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the assignment statistics"),
+            @ApiResponse(responseCode = "404", description = "Assignment not found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized to view statistics of this assignment")
+    })
+    @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
+    public ResponseEntity<GradeStatisticsResponse> getAssignmentStatistics(@PathVariable String assignmentId,
+                                                                           Authentication authentication) {
+        var assignment = assignmentService.getAssignmentById(assignmentId);
+        if (assignment == null) {
+            throw new AssignmentNotFoundException("Assignment " + assignmentId + " not found");
+        }
+
+        User principal = (User) authentication.getPrincipal();
+        courseService.isAuthorized(assignment.getCourseId(), principal, "Not authorized to view statistics of this assignment.");
+        return ResponseEntity.ok(gradeStatisticsService.getAssignmentStatistics(assignment));
+    }
+
+    @PostMapping("/assignments/{assignmentId}/statistics/recompute")
+    @Operation(description = "Rebuilds the statistics of an assignment and of its course from the stored grades and returns the assignment statistics. Meant for repairing statistics that a failed write left behind. Accessible by admins only.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics rebuilt successfully"),
+            @ApiResponse(responseCode = "404", description = "Assignment not found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only admins can rebuild statistics")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GradeStatisticsResponse> recomputeAssignmentStatistics(@PathVariable String assignmentId) {
+        var assignment = assignmentService.getAssignmentById(assignmentId);
+        if (assignment == null) {
+            throw new AssignmentNotFoundException("Assignment " + assignmentId + " not found");
+        }
+
+        gradeStatisticsService.recompute(List.of(assignmentId));
+        return ResponseEntity.ok(gradeStatisticsService.getAssignmentStatistics(assignment));
+    }
+
+    @GetMapping("/courses/{courseId}/statistics")
+    @Operation(description = "Returns the same statistics over all grades of a course. Every grade is counted as a percentage of its assignment's max score. Accessible by the teacher of the course and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the course statistics"),
+            @ApiResponse(responseCode = "404", description = "Course not found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized to view statistics of this course")
+    })
+    @PreAuthorize("hasRole('TEACHER') or hasRole('ADMIN')")
+    public ResponseEntity<GradeStatisticsResponse> getCourseStatistics(@PathVariable String courseId,
+                                                                       Authentication authentication) {
+        if (!courseService.courseExists(courseId)) {
+            throw new CourseNotFoundException("Course " + courseId + " not found");
+        }
+
+        User principal = (User) authentication.getPrincipal();
+        courseService.isAuthorized(courseId, principal, "Not authorized to view statistics of this course.");
+        return ResponseEntity.ok(gradeStatisticsService.getCourseStatistics(courseId));
+    }
+
+    private List<String> validate(GradeDto gradeDto, String assignmentId) {
+        List<String> errors = new ArrayList<>(validator.validate(gradeDto).stream()
+                .map(ConstraintViolation::getMessage)
+                .toList());
+
+        if (!assignmentId.equals(gradeDto.getAssignmentId())) {
+            errors.add("Assignment ID must match the assignment in the path");
+        }
+        return errors;
+    }
+
+    private void checkGradesAccess(String studentId, Authentication authentication) {
         if (!userService.userExists(studentId)) {
             throw new UserNotFoundException("Student " + studentId + "not found");
         }
@@ -87,17 +304,13 @@ public class GradeController {
                 courseService.getAllCourses(Optional.empty(), Optional.of(principal.getId())))) {
             throw new AccessDeniedException("Not authorized to get this students grades.");
         }
-
-        List<Grade> grades = gradeService.getGrades(studentId);
-        List<GradeDto> gradeDtos = grades.stream().map(this::mapGradeToGradeDto).toList();
-        return ResponseEntity.ok(gradeDtos);
     }
 
     private GradeDto mapGradeToGradeDto(Grade grade) {
-        return modelMapper.map(grade, GradeDto.class);
+        return gradeMapper.toDto(grade);
     }
 
     private Grade mapGradeDtoToGrade(GradeDto gradeDto) {
-        return modelMapper.map(gradeDto, Grade.class);
+        return gradeMapper.toEntity(gradeDto);
     }
 }
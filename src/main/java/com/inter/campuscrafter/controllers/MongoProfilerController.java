@@ -0,0 +1,76 @@
+package com.inter.campuscrafter.controllers;
+
+import com.inter.campuscrafter.config.MongoCommandProfiler;
+import com.inter.campuscrafter.config.MongoCommandProfiler.RepeatedQuery;
+import com.inter.campuscrafter.config.MongoCommandProfiler.SlowCommand;
+import com.inter.campuscrafter.responses.RepeatedMongoQueryResponse;
+import com.inter.campuscrafter.responses.SlowMongoCommandResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/mongo")
+@Tag(name = "MongoDB Profiling", description = "Mongo Profiler Controller")
+@RequiredArgsConstructor
+public class MongoProfilerController {
+    private final MongoCommandProfiler mongoCommandProfiler;
+
+    @GetMapping("/slow-commands")
+    @Operation(description = "Lists the most recent MongoDB commands that took longer than mongo.profiler.slow-threshold, oldest first, with the request that sent them and how many documents were returned and examined. Accessible by admins only.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the slow commands"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only admins can view profiling data")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SlowMongoCommandResponse>> getSlowCommands() {
+        return ResponseEntity.ok(mongoCommandProfiler.getSlowCommands().stream()
+                .map(this::mapSlowCommandToResponse)
+                .toList());
+    }
+
+    @GetMapping("/repeated-queries")
+    @Operation(description = "Lists the most recent requests that sent more than mongo.profiler.repeated-query-threshold MongoDB commands of the same shape, a sign of an N+1 query pattern. Accessible by admins only.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the repeated queries"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only admins can view profiling data")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RepeatedMongoQueryResponse>> getRepeatedQueries() {
+        return ResponseEntity.ok(mongoCommandProfiler.getRepeatedQueries().stream()
+                .map(this::mapRepeatedQueryToResponse)
+                .toList());
+    }
+
+    private SlowMongoCommandResponse mapSlowCommandToResponse(SlowCommand slowCommand) {
+        return new SlowMongoCommandResponse()
+                .setTimestamp(slowCommand.timestamp())
+                .setRequestId(slowCommand.requestId())
+                .setRequest(slowCommand.request())
+                .setCollection(slowCommand.collection())
+                .setCommand(slowCommand.command())
+                .setShape(slowCommand.shape())
+                .setDurationMillis(slowCommand.durationMillis())
+                .setDocumentsReturned(slowCommand.documentsReturned())
+                .setDocumentsExamined(slowCommand.documentsExamined())
+                .setKeysExamined(slowCommand.keysExamined());
+    }
+
+    private RepeatedMongoQueryResponse mapRepeatedQueryToResponse(RepeatedQuery repeatedQuery) {
+        return new RepeatedMongoQueryResponse()
+                .setTimestamp(repeatedQuery.timestamp())
+                .setRequestId(repeatedQuery.requestId())
+                .setRequest(repeatedQuery.request())
+                .setShape(repeatedQuery.shape())
+                .setCount(repeatedQuery.count());
+    }
+}
@@ -1,9 +1,13 @@
 package com.inter.campuscrafter.controllers;
 
+import com.inter.campuscrafter.dtos.DeletionTaskDto;
 import com.inter.campuscrafter.dtos.UserDto;
+import com.inter.campuscrafter.dtos.UserPatchDto;
+import com.inter.campuscrafter.entities.DeletionTask;
 import com.inter.campuscrafter.entities.User;
-import com.inter.campuscrafter.entities.UserRole;
-import com.inter.campuscrafter.services.GradeService;
+import com.inter.campuscrafter.exceptions.UserNotFoundException;
+import com.inter.campuscrafter.mappers.DeletionTaskMapper;
+import com.inter.campuscrafter.mappers.UserMapper;
 import com.inter.campuscrafter.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,20 +15,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/users")
 @Tag(name = "User Management", description = "User Controller")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
-    private final GradeService gradeService;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final DeletionTaskMapper deletionTaskMapper;
     private final PasswordEncoder passwordEncoder;
 
     @GetMapping("/{userId}")
@@ -56,35 +62,62 @@ public class UserController {
                                                      @RequestBody @Valid UserDto userDto) {
         User user = mapUserDtoToUser(userDto);
         User updatedUser = userService.updateUser(userId, user);
-        if (user == null) {
+        if (updatedUser == null) {
             return ResponseEntity.notFound().build();
         }
         UserDto updatedUserDto = mapUserToUserDto(updatedUser);
         return ResponseEntity.ok(updatedUserDto);
     }
 
+    @PatchMapping("/{userId}")
+    @Operation(description = "Changes only the fields present in the body of a specific user profile. The version being edited is sent in If-Match or as 'version' in the body; the update is rejected if the profile has changed since. Accessible by the user themselves and admins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "User profile updated successfully"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - User not authorized to update this profile"),
+            @ApiResponse(responseCode = "409", description = "User profile was changed by another request"),
+            @ApiResponse(responseCode = "428", description = "No version sent")
+    })
+    @PreAuthorize("#userId == principal.username or hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<UserDto> patchUserProfile(@PathVariable String userId,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @RequestBody @Valid UserPatchDto userPatchDto) {
+        Long expectedVersion = Versions.expectedVersion(ifMatch, userPatchDto.getVersion());
+        User updatedUser = userService.patchUser(userId, expectedVersion, userMapper.toFields(userPatchDto));
+        if (updatedUser == null) {
+            throw new UserNotFoundException("User " + userId + " not found");
+        }
+
+        return ResponseEntity.ok()
+                .eTag(Versions.eTag(updatedUser.getVersion()))
+                .body(mapUserToUserDto(updatedUser));
+    }
+
     @DeleteMapping("/{userId}")
-    @Operation(description = "Deletes a specific user profile. Accessible by admins only.")
+    @Operation(description = "Deletes a specific user profile. The profile and its sessions are removed immediately; grades and enrollments are removed in the background and the progress can be followed at the returned location. Accessible by admins only.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "User deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "User deleted, dependent data is being removed"),
             @ApiResponse(responseCode = "404", description = "User not found"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Only admins can delete users")
     })
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteUser(@PathVariable String userId) {
-        User userById = userService.getUserById(userId);
-        userService.deleteUser(userId);
-        if (userById.hasRole(UserRole.STUDENT)) {
-            gradeService.deleteGradesByStudentId(userId);
+    public ResponseEntity<DeletionTaskDto> deleteUser(@PathVariable String userId) {
+        if (userService.getUserById(userId) == null) {
+            throw new UserNotFoundException("User " + userId + " not found");
         }
-        return ResponseEntity.ok().build();
+
+        DeletionTask deletionTask = userService.deleteUser(userId);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/deletions/" + deletionTask.getId()))
+                .body(deletionTaskMapper.toDto(deletionTask));
     }
 
     private UserDto mapUserToUserDto(User user) {
-        return modelMapper.map(user, UserDto.class);
+        return userMapper.toDto(user);
     }
 
     private User mapUserDtoToUser(UserDto userDto) {
-        return modelMapper.map(userDto, User.class);
+        return userMapper.toEntity(userDto);
     }
 }
@@ -0,0 +1,41 @@
+package com.inter.campuscrafter.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+final class Versions {
+    private Versions() {
+    }
+
+    // If-Match carries the ETag of an earlier response, "3" or W/"3", and wins over a version in the body.
+    // "*" asks for the update regardless of the stored version.
+    static Long expectedVersion(String ifMatch, Long bodyVersion) {
+        if (ifMatch != null) {
+            String tag = ifMatch.trim();
+
+            if (tag.equals("*")) {
+                return null;
+            }
+
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+
+            try {
+                return Long.parseLong(tag.replace("\"", ""));
+            } catch (NumberFormatException exception) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match must be the ETag of an earlier response");
+            }
+        }
+
+        if (bodyVersion == null) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED,
+                    "Send the version being edited in If-Match or in the request body");
+        }
+        return bodyVersion;
+    }
+
+    static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+}
@@ -25,4 +25,5 @@ public class AssignmentDto {
     private int maxScore;
     @NotBlank(message = "Submission format cannot be blank")
     private String submissionFormat;
+    private Long version;
 }
@@ -0,0 +1,23 @@
+package com.inter.campuscrafter.dtos;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AssignmentPatchDto {
+    private Long version;
+    @Pattern(regexp = ".*\\S.*", message = "Title cannot be blank")
+    private String title;
+    @Pattern(regexp = "(?s).*\\S.*", message = "Content cannot be blank")
+    private String content;
+    @FutureOrPresent(message = "Due date must be in the present or future")
+    private LocalDateTime dueDate;
+    @Min(value = 0, message = "Max score must be a positive number")
+    private Integer maxScore;
+    @Pattern(regexp = ".*\\S.*", message = "Submission format cannot be blank")
+    private String submissionFormat;
+}
@@ -26,4 +26,5 @@ public class CourseDto {
     private int enrollmentLimit;
     @NotNull(message = "Status cannot be null")
     private CourseStatus status;
+    private Long version;
 }
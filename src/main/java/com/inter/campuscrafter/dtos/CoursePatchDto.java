@@ -0,0 +1,27 @@
+package com.inter.campuscrafter.dtos;
+
+import com.inter.campuscrafter.entities.CourseStatus;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class CoursePatchDto {
+    private Long version;
+    @Pattern(regexp = ".*\\S.*", message = "Title cannot be blank")
+    private String title;
+    @Pattern(regexp = "(?s).*\\S.*", message = "Description cannot be blank")
+    private String description;
+    @Pattern(regexp = ".*\\S.*", message = "Teacher ID cannot be blank")
+    private String teacherId;
+    @FutureOrPresent(message = "Start date must be in the present or future")
+    private LocalDate startDate;
+    @Min(value = 0, message = "Credits must be a positive number")
+    private Integer credits;
+    @Min(value = 0, message = "Enrollment limit must be a positive number")
+    private Integer enrollmentLimit;
+    private CourseStatus status;
+}
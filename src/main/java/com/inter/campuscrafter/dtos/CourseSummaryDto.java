@@ -0,0 +1,15 @@
+package com.inter.campuscrafter.dtos;
+
+import com.inter.campuscrafter.entities.CourseStatus;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class CourseSummaryDto {
+    private String id;
+    private String title;
+    private String teacherId;
+    private LocalDate startDate;
+    private CourseStatus status;
+}
@@ -0,0 +1,22 @@
+package com.inter.campuscrafter.dtos;
+
+import com.inter.campuscrafter.entities.DeletionStatus;
+import com.inter.campuscrafter.entities.DeletionStep;
+import com.inter.campuscrafter.entities.DeletionTarget;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class DeletionTaskDto {
+    private String id;
+    private DeletionTarget targetType;
+    private String targetId;
+    private DeletionStatus status;
+    private DeletionStep step;
+    private long deletedCount;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
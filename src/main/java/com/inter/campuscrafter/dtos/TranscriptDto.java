@@ -0,0 +1,26 @@
+package com.inter.campuscrafter.dtos;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class TranscriptDto {
+    private String studentId;
+    private List<CourseResultDto> courses;
+    private int totalCredits;
+    private Double weightedPercentage;
+    private LocalDateTime updatedAt;
+
+    @Data
+    public static class CourseResultDto {
+        private String courseId;
+        private String title;
+        private int credits;
+        private int gradedAssignments;
+        private long earnedPoints;
+        private long possiblePoints;
+        private Double percentage;
+    }
+}
@@ -22,4 +22,5 @@ public class UserDto {
     private LocalDateTime dateJoined;
     private LocalDateTime lastLogin;
     private String bio;
+    private Long version;
 }
@@ -0,0 +1,20 @@
+package com.inter.campuscrafter.dtos;
+
+import com.inter.campuscrafter.entities.UserRole;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class UserPatchDto {
+    private Long version;
+    @Pattern(regexp = "^[\\p{L} .'-]+$", message = "Name should contain only letters, spaces, apostrophes, hyphens, and dots")
+    @Size(min = 2, max = 50, message = "Name length should be between 2 and 50 characters")
+    private String name;
+    @Email(message = "Email should be valid")
+    @Size(min = 1, max = 100, message = "Email length should be at most 100 characters")
+    private String email;
+    private UserRole userRole;
+    private String bio;
+}
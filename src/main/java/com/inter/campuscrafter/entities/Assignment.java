@@ -2,6 +2,7 @@ package com.inter.campuscrafter.entities;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,8 +15,10 @@ public class Assignment {
     private String title;
     private String content;
     private LocalDateTime dueDate;
+    @Indexed
     private String courseId;
     private LocalDateTime postedDate;
     private int maxScore;
     private String submissionFormat;
+    private long version;
 }
@@ -2,12 +2,15 @@ package com.inter.campuscrafter.entities;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 
 @Data
 @Document(collection = "courses")
+@CompoundIndex(name = "teacher_status", def = "{'teacherId': 1, 'status': 1}")
 public class Course {
     @Id
     private String id;
@@ -17,5 +20,7 @@ public class Course {
     private LocalDate startDate;
     private int credits;
     private int enrollmentLimit;
+    @Indexed
     private CourseStatus status;
+    private long version;
 }
\ No newline at end of file
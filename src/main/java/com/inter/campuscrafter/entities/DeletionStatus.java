@@ -0,0 +1,8 @@
+package com.inter.campuscrafter.entities;
+
+public enum DeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+}
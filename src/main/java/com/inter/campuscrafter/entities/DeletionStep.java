@@ -0,0 +1,8 @@
+package com.inter.campuscrafter.entities;
+
+public enum DeletionStep {
+    ROOT,
+    ASSIGNMENTS,
+    GRADES,
+    ENROLLMENTS;
+}
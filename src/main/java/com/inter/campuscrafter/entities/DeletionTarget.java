@@ -0,0 +1,23 @@
+package com.inter.campuscrafter.entities;
+
+import java.util.List;
+
+public enum DeletionTarget {
+    COURSE(List.of(DeletionStep.ROOT, DeletionStep.ASSIGNMENTS, DeletionStep.ENROLLMENTS)),
+    USER(List.of(DeletionStep.ROOT, DeletionStep.GRADES, DeletionStep.ENROLLMENTS));
+
+    private final List<DeletionStep> steps;
+
+    DeletionTarget(List<DeletionStep> steps) {
+        this.steps = steps;
+    }
+
+    public DeletionStep firstStep() {
+        return steps.get(0);
+    }
+
+    public DeletionStep nextStep(DeletionStep step) {
+        int index = steps.indexOf(step);
+        return index + 1 < steps.size() ? steps.get(index + 1) : null;
+    }
+}
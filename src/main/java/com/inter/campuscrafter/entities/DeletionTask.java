@@ -0,0 +1,38 @@
+package com.inter.campuscrafter.entities;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Document(collection = "deletion_tasks")
+public class DeletionTask {
+    @Id
+    private String id;
+    private DeletionTarget targetType;
+    private String targetId;
+    @Indexed
+    private DeletionStatus status;
+    private DeletionStep step;
+    private long deletedCount;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime leaseUntil;
+
+    public DeletionTask(DeletionTarget targetType, String targetId) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.status = DeletionStatus.PENDING;
+        this.step = targetType.firstStep();
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = createdAt;
+    }
+}
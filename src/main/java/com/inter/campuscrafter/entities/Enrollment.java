@@ -0,0 +1,28 @@
+package com.inter.campuscrafter.entities;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Document(collection = "enrollments")
+@CompoundIndex(name = "student_course", def = "{'studentId': 1, 'courseId': 1}", unique = true)
+@CompoundIndex(name = "course_student", def = "{'courseId': 1, 'studentId': 1}")
+public class Enrollment {
+    @Id
+    private String id;
+    private String studentId;
+    private String courseId;
+    private LocalDateTime enrolledAt;
+
+    public Enrollment(String studentId, String courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.enrolledAt = LocalDateTime.now();
+    }
+}
@@ -2,15 +2,19 @@ package com.inter.campuscrafter.entities;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Data
 @Document(collection = "grades")
+@CompoundIndex(name = "assignment_score", def = "{'assignmentId': 1, 'score': 1}")
 public class Grade {
     @Id
     private String id;
+    @Indexed
     private String studentId;
     private String assignmentId;
     private int score;
@@ -0,0 +1,28 @@
+package com.inter.campuscrafter.entities;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Assignment statistics are kept in score points, course statistics in percent of each assignment's max score.
+// Histogram keys are the lower bound, in percent, of each bucket.
+@Data
+@Document(collection = "grade_statistics")
+public class GradeStatistics {
+    @Id
+    private String id;
+    private StatisticsScope scope;
+    @Indexed
+    private String courseId;
+    private int maxScore;
+    private long count;
+    private double sum;
+    private double sumOfSquares;
+    private Double min;
+    private Double max;
+    private Map<String, Long> histogram = new HashMap<>();
+}
@@ -0,0 +1,26 @@
+package com.inter.campuscrafter.entities;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Document(collection = "migrations")
+public class Migration {
+    @Id
+    private String id;
+    private String resumeAfter;
+    private LocalDateTime completedAt;
+
+    public Migration(String id) {
+        this.id = id;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.inter.campuscrafter.entities;
+
+public enum StatisticsScope {
+    ASSIGNMENT,
+    COURSE
+}
@@ -0,0 +1,31 @@
+package com.inter.campuscrafter.entities;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Document(collection = "transcripts")
+public class Transcript {
+    @Id
+    private String studentId;
+    private List<CourseResult> courses = new ArrayList<>();
+    private int totalCredits;
+    private Double weightedPercentage;
+    private LocalDateTime updatedAt;
+
+    @Data
+    public static class CourseResult {
+        private String courseId;
+        private String title;
+        private int credits;
+        private int gradedAssignments;
+        private long earnedPoints;
+        private long possiblePoints;
+        private Double percentage;
+    }
+}
@@ -3,6 +3,7 @@ package com.inter.campuscrafter.entities;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,12 +21,15 @@ public class User implements UserDetails {
     @Id
     private String id;
     private String name;
+    @Indexed(unique = true)
     private String email;
     private String password;
     private UserRole userRole;
     private LocalDateTime dateJoined;
     private LocalDateTime lastLogin;
     private String bio;
+    private int tokenVersion;
+    private long version;
 
     protected User(UserRole userRole) {
         this.userRole = userRole;
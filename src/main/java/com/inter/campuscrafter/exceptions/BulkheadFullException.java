@@ -0,0 +1,7 @@
+package com.inter.campuscrafter.exceptions;
+
+public class BulkheadFullException extends RuntimeException {
+    public BulkheadFullException(String route) {
+        super("Too many concurrent requests to " + route);
+    }
+}
@@ -0,0 +1,7 @@
+package com.inter.campuscrafter.exceptions;
+
+public class DeletionTaskNotFoundException extends NotFoundException {
+    public DeletionTaskNotFoundException(String message) {
+        super(message);
+    }
+}
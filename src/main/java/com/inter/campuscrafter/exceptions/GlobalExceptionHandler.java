@@ -1,10 +1,16 @@
 package com.inter.campuscrafter.exceptions;
 
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -22,6 +28,33 @@ public class GlobalExceptionHandler {
             errorDetail.setProperty("description", exception.getMessage());
         }
 
+        if (exception instanceof ResponseStatusException responseStatusException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(responseStatusException.getStatusCode(), responseStatusException.getReason());
+            errorDetail.setProperty("description", responseStatusException.getReason());
+        }
+
+        if (exception instanceof BindException bindException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(400), bindException.getBindingResult().getAllErrors().stream()
+                    .map(ObjectError::getDefaultMessage)
+                    .collect(Collectors.joining(", ")));
+            errorDetail.setProperty("description", "The request body is not valid");
+        }
+
+        if (exception instanceof ConstraintViolationException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(400), exception.getMessage());
+            errorDetail.setProperty("description", "The request parameters are not valid");
+        }
+
+        if (exception instanceof VersionConflictException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(409), exception.getMessage());
+            errorDetail.setProperty("description", "The resource was changed by another request, reload it and retry");
+        }
+
+        if (exception instanceof BulkheadFullException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(503), exception.getMessage());
+            errorDetail.setProperty("description", "The server is busy, please retry shortly");
+        }
+
         if (errorDetail == null) {
             errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(500), exception.getMessage());
             errorDetail.setProperty("description", "Unknown internal server error.");
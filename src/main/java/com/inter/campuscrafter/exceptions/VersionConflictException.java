@@ -0,0 +1,7 @@
+package com.inter.campuscrafter.exceptions;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String id, long expectedVersion) {
+        super("Version " + expectedVersion + " of " + id + " is out of date");
+    }
+}
@@ -0,0 +1,55 @@
+package com.inter.campuscrafter.mappers;
+
+import com.inter.campuscrafter.dtos.AssignmentDto;
+import com.inter.campuscrafter.dtos.AssignmentPatchDto;
+import com.inter.campuscrafter.entities.Assignment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class AssignmentMapper {
+    public AssignmentDto toDto(Assignment assignment) {
+        AssignmentDto assignmentDto = new AssignmentDto();
+        assignmentDto.setId(assignment.getId());
+        assignmentDto.setTitle(assignment.getTitle());
+        assignmentDto.setContent(assignment.getContent());
+        assignmentDto.setDueDate(assignment.getDueDate());
+        assignmentDto.setCourseId(assignment.getCourseId());
+        assignmentDto.setPostedDate(assignment.getPostedDate());
+        assignmentDto.setMaxScore(assignment.getMaxScore());
+        assignmentDto.setSubmissionFormat(assignment.getSubmissionFormat());
+        assignmentDto.setVersion(assignment.getVersion());
+        return assignmentDto;
+    }
+
+    public Assignment toEntity(AssignmentDto assignmentDto) {
+        Assignment assignment = new Assignment();
+        assignment.setId(assignmentDto.getId());
+        assignment.setTitle(assignmentDto.getTitle());
+        assignment.setContent(assignmentDto.getContent());
+        assignment.setDueDate(assignmentDto.getDueDate());
+        assignment.setCourseId(assignmentDto.getCourseId());
+        assignment.setPostedDate(assignmentDto.getPostedDate());
+        assignment.setMaxScore(assignmentDto.getMaxScore());
+        assignment.setSubmissionFormat(assignmentDto.getSubmissionFormat());
+        return assignment;
+    }
+
+    public Map<String, Object> toFields(AssignmentPatchDto assignmentPatchDto) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfPresent(fields, "title", assignmentPatchDto.getTitle());
+        putIfPresent(fields, "content", assignmentPatchDto.getContent());
+        putIfPresent(fields, "dueDate", assignmentPatchDto.getDueDate());
+        putIfPresent(fields, "maxScore", assignmentPatchDto.getMaxScore());
+        putIfPresent(fields, "submissionFormat", assignmentPatchDto.getSubmissionFormat());
+        return fields;
+    }
+
+    private static void putIfPresent(Map<String, Object> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+}
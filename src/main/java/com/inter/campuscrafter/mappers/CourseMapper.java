@@ -0,0 +1,68 @@
+package com.inter.campuscrafter.mappers;
+
+import com.inter.campuscrafter.dtos.CourseDto;
+import com.inter.campuscrafter.dtos.CoursePatchDto;
+import com.inter.campuscrafter.dtos.CourseSummaryDto;
+import com.inter.campuscrafter.entities.Course;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class CourseMapper {
+    public CourseDto toDto(Course course) {
+        CourseDto courseDto = new CourseDto();
+        courseDto.setId(course.getId());
+        courseDto.setTitle(course.getTitle());
+        courseDto.setDescription(course.getDescription());
+        courseDto.setTeacherId(course.getTeacherId());
+        courseDto.setStartDate(course.getStartDate());
+        courseDto.setCredits(course.getCredits());
+        courseDto.setEnrollmentLimit(course.getEnrollmentLimit());
+        courseDto.setStatus(course.getStatus());
+        courseDto.setVersion(course.getVersion());
+        return courseDto;
+    }
+
+    public CourseSummaryDto toSummaryDto(Course course) {
+        CourseSummaryDto courseSummaryDto = new CourseSummaryDto();
+        courseSummaryDto.setId(course.getId());
+        courseSummaryDto.setTitle(course.getTitle());
+        courseSummaryDto.setTeacherId(course.getTeacherId());
+        courseSummaryDto.setStartDate(course.getStartDate());
+        courseSummaryDto.setStatus(course.getStatus());
+        return courseSummaryDto;
+    }
+
+    public Course toEntity(CourseDto courseDto) {
+        Course course = new Course();
+        course.setId(courseDto.getId());
+        course.setTitle(courseDto.getTitle());
+        course.setDescription(courseDto.getDescription());
+        course.setTeacherId(courseDto.getTeacherId());
+        course.setStartDate(courseDto.getStartDate());
+        course.setCredits(courseDto.getCredits());
+        course.setEnrollmentLimit(courseDto.getEnrollmentLimit());
+        course.setStatus(courseDto.getStatus());
+        return course;
+    }
+
+    public Map<String, Object> toFields(CoursePatchDto coursePatchDto) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfPresent(fields, "title", coursePatchDto.getTitle());
+        putIfPresent(fields, "description", coursePatchDto.getDescription());
+        putIfPresent(fields, "teacherId", coursePatchDto.getTeacherId());
+        putIfPresent(fields, "startDate", coursePatchDto.getStartDate());
+        putIfPresent(fields, "credits", coursePatchDto.getCredits());
+        putIfPresent(fields, "enrollmentLimit", coursePatchDto.getEnrollmentLimit());
+        putIfPresent(fields, "status", coursePatchDto.getStatus());
+        return fields;
+    }
+
+    private static void putIfPresent(Map<String, Object> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+}
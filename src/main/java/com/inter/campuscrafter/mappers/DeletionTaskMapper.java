@@ -0,0 +1,23 @@
+package com.inter.campuscrafter.mappers;
+
+import com.inter.campuscrafter.dtos.DeletionTaskDto;
+import com.inter.campuscrafter.entities.DeletionTask;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DeletionTaskMapper {
+    public DeletionTaskDto toDto(DeletionTask deletionTask) {
+        DeletionTaskDto deletionTaskDto = new DeletionTaskDto();
+        deletionTaskDto.setId(deletionTask.getId());
+        deletionTaskDto.setTargetType(deletionTask.getTargetType());
+        deletionTaskDto.setTargetId(deletionTask.getTargetId());
+        deletionTaskDto.setStatus(deletionTask.getStatus());
+        deletionTaskDto.setStep(deletionTask.getStep());
+        deletionTaskDto.setDeletedCount(deletionTask.getDeletedCount());
+        deletionTaskDto.setAttempts(deletionTask.getAttempts());
+        deletionTaskDto.setLastError(deletionTask.getLastError());
+        deletionTaskDto.setCreatedAt(deletionTask.getCreatedAt());
+        deletionTaskDto.setUpdatedAt(deletionTask.getUpdatedAt());
+        return deletionTaskDto;
+    }
+}
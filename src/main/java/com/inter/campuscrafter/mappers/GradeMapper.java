@@ -0,0 +1,30 @@
+package com.inter.campuscrafter.mappers;
+
+import com.inter.campuscrafter.dtos.GradeDto;
+import com.inter.campuscrafter.entities.Grade;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GradeMapper {
+    public GradeDto toDto(Grade grade) {
+        GradeDto gradeDto = new GradeDto();
+        gradeDto.setId(grade.getId());
+        gradeDto.setStudentId(grade.getStudentId());
+        gradeDto.setAssignmentId(grade.getAssignmentId());
+        gradeDto.setScore(grade.getScore());
+        gradeDto.setFeedback(grade.getFeedback());
+        gradeDto.setSubmissionDate(grade.getSubmissionDate());
+        return gradeDto;
+    }
+
+    public Grade toEntity(GradeDto gradeDto) {
+        Grade grade = new Grade();
+        grade.setId(gradeDto.getId());
+        grade.setStudentId(gradeDto.getStudentId());
+        grade.setAssignmentId(gradeDto.getAssignmentId());
+        grade.setScore(gradeDto.getScore());
+        grade.setFeedback(gradeDto.getFeedback());
+        grade.setSubmissionDate(gradeDto.getSubmissionDate());
+        return grade;
+    }
+}
@@ -0,0 +1,30 @@
+package com.inter.campuscrafter.mappers;
+
+import com.inter.campuscrafter.dtos.TranscriptDto;
+import com.inter.campuscrafter.entities.Transcript;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TranscriptMapper {
+    public TranscriptDto toDto(Transcript transcript) {
+        TranscriptDto transcriptDto = new TranscriptDto();
+        transcriptDto.setStudentId(transcript.getStudentId());
+        transcriptDto.setCourses(transcript.getCourses().stream().map(this::toDto).toList());
+        transcriptDto.setTotalCredits(transcript.getTotalCredits());
+        transcriptDto.setWeightedPercentage(transcript.getWeightedPercentage());
+        transcriptDto.setUpdatedAt(transcript.getUpdatedAt());
+        return transcriptDto;
+    }
+
+    private TranscriptDto.CourseResultDto toDto(Transcript.CourseResult courseResult) {
+        TranscriptDto.CourseResultDto courseResultDto = new TranscriptDto.CourseResultDto();
+        courseResultDto.setCourseId(courseResult.getCourseId());
+        courseResultDto.setTitle(courseResult.getTitle());
+        courseResultDto.setCredits(courseResult.getCredits());
+        courseResultDto.setGradedAssignments(courseResult.getGradedAssignments());
+        courseResultDto.setEarnedPoints(courseResult.getEarnedPoints());
+        courseResultDto.setPossiblePoints(courseResult.getPossiblePoints());
+        courseResultDto.setPercentage(courseResult.getPercentage());
+        return courseResultDto;
+    }
+}
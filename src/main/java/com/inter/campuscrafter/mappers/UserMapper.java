@@ -0,0 +1,70 @@
+package com.inter.campuscrafter.mappers;
+
+import com.inter.campuscrafter.dtos.LoginUserDto;
+import com.inter.campuscrafter.dtos.RegisterUserDto;
+import com.inter.campuscrafter.dtos.UserDto;
+import com.inter.campuscrafter.dtos.UserPatchDto;
+import com.inter.campuscrafter.entities.User;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class UserMapper {
+    public UserDto toDto(User user) {
+        UserDto userDto = new UserDto();
+        userDto.setId(user.getId());
+        userDto.setName(user.getName());
+        userDto.setEmail(user.getEmail());
+        userDto.setUserRole(user.getUserRole());
+        userDto.setDateJoined(user.getDateJoined());
+        userDto.setLastLogin(user.getLastLogin());
+        userDto.setBio(user.getBio());
+        userDto.setVersion(user.getVersion());
+        return userDto;
+    }
+
+    public User toEntity(UserDto userDto) {
+        User user = new User();
+        user.setId(userDto.getId());
+        user.setName(userDto.getName());
+        user.setEmail(userDto.getEmail());
+        user.setUserRole(userDto.getUserRole());
+        user.setDateJoined(userDto.getDateJoined());
+        user.setLastLogin(userDto.getLastLogin());
+        user.setBio(userDto.getBio());
+        return user;
+    }
+
+    public User toEntity(RegisterUserDto registerUserDto) {
+        User user = new User();
+        user.setName(registerUserDto.getName());
+        user.setEmail(registerUserDto.getEmail());
+        user.setPassword(registerUserDto.getPassword());
+        user.setUserRole(registerUserDto.getUserRole());
+        return user;
+    }
+
+    public User toEntity(LoginUserDto loginUserDto) {
+        User user = new User();
+        user.setEmail(loginUserDto.getEmail());
+        user.setPassword(loginUserDto.getPassword());
+        return user;
+    }
+
+    public Map<String, Object> toFields(UserPatchDto userPatchDto) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfPresent(fields, "name", userPatchDto.getName());
+        putIfPresent(fields, "email", userPatchDto.getEmail());
+        putIfPresent(fields, "userRole", userPatchDto.getUserRole());
+        putIfPresent(fields, "bio", userPatchDto.getBio());
+        return fields;
+    }
+
+    private static void putIfPresent(Map<String, Object> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.inter.campuscrafter.repositories.interfaces;
 
 import com.inter.campuscrafter.entities.Assignment;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface AssignmentRepository {
@@ -11,7 +13,17 @@ public interface AssignmentRepository {
     void deleteById(String id);
 
     Assignment save(Assignment assignment);
+    <S extends Assignment> List<S> saveAll(Iterable<S> assignments);
+    Optional<Assignment> updateFields(String id, Long expectedVersion, Map<String, Object> fields);
     List<Assignment> findAllByCourseId(String courseId);
 
+    List<Assignment> findByCourseId(String courseId, Pageable pageable);
+
+    long countByCourseId(String courseId);
+
+    void deleteAllById(Iterable<? extends String> ids);
+
     void deleteAllByCourseId(String courseId);
+
+    List<Assignment> findPageAfter(String afterId, int limit);
 }
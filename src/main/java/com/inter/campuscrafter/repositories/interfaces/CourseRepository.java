@@ -2,7 +2,9 @@ package com.inter.campuscrafter.repositories.interfaces;
 
 import com.inter.campuscrafter.entities.Course;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CourseRepository {
@@ -18,6 +20,12 @@ public interface CourseRepository {
 
     Course save(Course course);
 
+    <S extends Course> List<S> saveAll(Iterable<S> courses);
+
+    Optional<Course> updateFields(String id, Long expectedVersion, Map<String, Object> fields);
+
     List<Course> findAllByTeacherId(String teacherId);
+
+    List<Course> findPage(String status, String teacherId, String after, int limit, Collection<String> fields);
 }
 
@@ -0,0 +1,23 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import com.inter.campuscrafter.entities.DeletionStatus;
+import com.inter.campuscrafter.entities.DeletionTask;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DeletionTaskRepository {
+    Optional<DeletionTask> findById(String id);
+
+    DeletionTask save(DeletionTask deletionTask);
+
+    List<DeletionTask> findAllByStatusIn(Collection<DeletionStatus> statuses);
+
+    void deleteById(String id);
+
+    // Atomically marks the task RUNNING and leased until leaseUntil, provided it is open, due and not leased
+    // by anyone else at the given time. Empty when someone else holds it or it is not due.
+    Optional<DeletionTask> claim(String id, LocalDateTime now, LocalDateTime leaseUntil);
+}
@@ -0,0 +1,35 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import com.inter.campuscrafter.entities.Enrollment;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EnrollmentRepository {
+    Enrollment save(Enrollment enrollment);
+
+    <S extends Enrollment> List<S> saveAll(Iterable<S> enrollments);
+
+    boolean existsByStudentIdAndCourseId(String studentId, String courseId);
+
+    boolean existsByStudentIdAndCourseIdIn(String studentId, Collection<String> courseIds);
+
+    List<Enrollment> findAllByStudentId(String studentId);
+
+    List<Enrollment> findAllByCourseId(String courseId);
+
+    List<Enrollment> findAllByStudentIdIn(Collection<String> studentIds);
+
+    List<Enrollment> findByStudentId(String studentId, Pageable pageable);
+
+    List<Enrollment> findByCourseId(String courseId, Pageable pageable);
+
+    long countByCourseId(String courseId);
+
+    void deleteAllByStudentId(String studentId);
+
+    void deleteAllByCourseId(String courseId);
+
+    void deleteAllById(Iterable<? extends String> ids);
+}
@@ -1,9 +1,13 @@
 package com.inter.campuscrafter.repositories.interfaces;
 
 import com.inter.campuscrafter.entities.Grade;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GradeRepository {
     Optional<Grade> findById(String id);
@@ -14,9 +18,25 @@ public interface GradeRepository {
 
     Grade save(Grade grade);
 
+    Map<Integer, String> insertAll(List<Grade> grades);
+
     List<Grade> findByAssignmentId(String assignmentId);
 
+    Optional<Grade> findFirstByAssignmentIdOrderByScoreAsc(String assignmentId);
+
+    Optional<Grade> findFirstByAssignmentIdOrderByScoreDesc(String assignmentId);
+
+    Map<Integer, Long> countByScore(String assignmentId);
+
+    List<Grade> findByAssignmentIdIn(Collection<String> assignmentIds, Pageable pageable);
+
     List<Grade> findByStudentId(String studentId);
 
+    List<Grade> findByStudentId(String studentId, Pageable pageable);
+
+    Stream<Grade> streamAllByStudentId(String studentId);
+
     void deleteAllByStudentId(String studentId);
+
+    void deleteAllById(Iterable<? extends String> ids);
 }
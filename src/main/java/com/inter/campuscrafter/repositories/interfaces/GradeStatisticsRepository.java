@@ -0,0 +1,25 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import com.inter.campuscrafter.entities.GradeStatistics;
+import com.inter.campuscrafter.entities.StatisticsScope;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GradeStatisticsRepository {
+    Optional<GradeStatistics> findById(String id);
+
+    List<GradeStatistics> findAllByCourseIdAndScope(String courseId, StatisticsScope scope);
+
+    GradeStatistics save(GradeStatistics statistics);
+
+    void add(GradeStatistics statistics, double value, String bucket);
+
+    Optional<GradeStatistics> subtract(String id, double value, String bucket);
+
+    void updateRange(String id, Double min, Double max);
+
+    void deleteById(String id);
+
+    void deleteAllById(Iterable<? extends String> ids);
+}
@@ -0,0 +1,11 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import com.inter.campuscrafter.entities.Migration;
+
+import java.util.Optional;
+
+public interface MigrationRepository {
+    Optional<Migration> findById(String id);
+
+    Migration save(Migration migration);
+}
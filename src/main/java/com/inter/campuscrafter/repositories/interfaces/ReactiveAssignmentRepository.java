@@ -0,0 +1,8 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import com.inter.campuscrafter.entities.Assignment;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveAssignmentRepository {
+    Flux<Assignment> findAllByCourseId(String courseId);
+}
@@ -0,0 +1,17 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import com.inter.campuscrafter.entities.Course;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCourseRepository {
+    Mono<Course> findById(String id);
+
+    Flux<Course> findAll();
+
+    Flux<Course> findAllByStatusAndTeacherId(String status, String teacherId);
+
+    Flux<Course> findAllByStatus(String status);
+
+    Flux<Course> findAllByTeacherId(String teacherId);
+}
@@ -0,0 +1,7 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEnrollmentRepository {
+    Mono<Boolean> existsByStudentIdAndCourseId(String studentId, String courseId);
+}
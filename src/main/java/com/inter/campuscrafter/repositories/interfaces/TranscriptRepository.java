@@ -0,0 +1,13 @@
+package com.inter.campuscrafter.repositories.interfaces;
+
+import com.inter.campuscrafter.entities.Transcript;
+
+import java.util.Optional;
+
+public interface TranscriptRepository {
+    Optional<Transcript> findById(String studentId);
+
+    Transcript save(Transcript transcript);
+
+    void deleteById(String studentId);
+}
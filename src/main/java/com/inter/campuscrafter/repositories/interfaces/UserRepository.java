@@ -3,7 +3,9 @@ package com.inter.campuscrafter.repositories.interfaces;
 import com.inter.campuscrafter.entities.Student;
 import com.inter.campuscrafter.entities.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -12,7 +14,13 @@ public interface UserRepository {
     void deleteById(String id);
 
     User save(User user);
+    <S extends User> List<S> saveAll(Iterable<S> users);
+    Optional<User> updateFields(String id, Long expectedVersion, Map<String, Object> fields);
 
     Optional<User> findByEmail(String username);
     Optional<Student> findStudentById(String id);
+    List<Student> findStudentsWithCourseIds(String afterId, int limit);
+
+    void updateLastLogins(Map<String, LocalDateTime> lastLogins);
+    void updatePassword(String id, String password);
 }
@@ -0,0 +1,9 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+record LogRecord(Operation operation, String collection, String type, String id, JsonNode entity) {
+    enum Operation {
+        SAVE, DELETE
+    }
+}
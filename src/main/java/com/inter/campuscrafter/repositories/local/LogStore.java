@@ -0,0 +1,343 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+@Slf4j
+@Component
+@Profile("local")
+public class LogStore implements SmartInitializingSingleton {
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{12})\\.log");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d{12})\\.dat");
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean syncOnWrite;
+    private final Duration snapshotInterval;
+    private final ObjectMapper objectMapper;
+    private final Map<String, LoggedCollection<?>> collections = new LinkedHashMap<>();
+    private final ReadWriteLock writeLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "log-store-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private long segmentSequence;
+
+    public LogStore(@Value("${local-store.directory}") Path directory,
+                    @Value("${local-store.segment-size}") DataSize segmentSize,
+                    @Value("${local-store.sync-on-write}") boolean syncOnWrite,
+                    @Value("${local-store.snapshot-interval}") Duration snapshotInterval,
+                    ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.segmentSize = segmentSize.toBytes();
+        this.syncOnWrite = syncOnWrite;
+        this.snapshotInterval = snapshotInterval;
+        this.objectMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+    }
+
+    public <T> LoggedCollection<T> register(String name,
+                                            Class<T> entityType,
+                                            Supplier<List<T>> snapshot,
+                                            Consumer<T> restore,
+                                            Consumer<String> restoreDelete) {
+        LoggedCollection<T> collection = new LoggedCollection<>(this, name, entityType, snapshot, restore, restoreDelete);
+        collections.put(name, collection);
+        return collection;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not open local store in " + directory, exception);
+        }
+
+        long intervalMillis = snapshotInterval.toMillis();
+        snapshotExecutor.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void append(LogRecord record) {
+        byte[] payload = encode(record);
+        int frameBytes = FRAME_HEADER_BYTES + payload.length;
+
+        try {
+            if (segment == null || segment.remaining() < frameBytes + Integer.BYTES) {
+                openSegment(segmentSequence + 1, Math.max(segmentSize, frameBytes + Integer.BYTES));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not roll log segment", exception);
+        }
+
+        segment.putInt(payload.length);
+        segment.putInt(checksum(payload));
+        segment.put(payload);
+
+        if (syncOnWrite) {
+            segment.force();
+        }
+    }
+
+    public <R> R write(Supplier<R> operation) {
+        writeLock.readLock().lock();
+        try {
+            return operation.get();
+        } finally {
+            writeLock.readLock().unlock();
+        }
+    }
+
+    // Writers are held off only while the segment rolls and every collection hands over its entity references;
+    // encoding and writing the snapshot happen after they have resumed.
+    public void snapshot() throws IOException {
+        long fromSequence;
+        List<Supplier<Stream<LogRecord>>> views = new ArrayList<>();
+
+        writeLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                openSegment(segmentSequence + 1, segmentSize);
+                fromSequence = segmentSequence;
+            }
+            collections.values().forEach(collection -> views.add(collection.snapshotRecords()));
+        } finally {
+            writeLock.writeLock().unlock();
+        }
+
+        Path temporary = directory.resolve(snapshotFileName(fromSequence) + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Supplier<Stream<LogRecord>> view : views) {
+                for (LogRecord record : (Iterable<LogRecord>) view.get()::iterator) {
+                    writeFrame(channel, encode(record));
+                }
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(snapshotFileName(fromSequence)), StandardCopyOption.ATOMIC_MOVE);
+
+        compact(fromSequence);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        snapshotExecutor.shutdownNow();
+
+        if (segment != null) {
+            segment.force();
+            segmentChannel.close();
+        }
+    }
+
+    private void recover() throws IOException {
+        OptionalLong snapshotSequence = latestSequence(SNAPSHOT_FILE);
+        long replayFrom = snapshotSequence.orElse(0);
+        int replayed = 0;
+
+        if (snapshotSequence.isPresent()) {
+            replayed += replay(directory.resolve(snapshotFileName(replayFrom)));
+        }
+
+        for (long sequence : sequences(SEGMENT_FILE)) {
+            if (sequence >= replayFrom) {
+                replayed += replay(directory.resolve(segmentFileName(sequence)));
+            }
+            segmentSequence = Math.max(segmentSequence, sequence);
+        }
+
+        segmentSequence = Math.max(segmentSequence, replayFrom);
+        openSegment(segmentSequence + 1, segmentSize);
+
+        log.info("Local store recovered {} records from {}", replayed, directory.toAbsolutePath());
+    }
+
+    private int replay(Path file) throws IOException {
+        int replayed = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= FRAME_HEADER_BYTES) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+
+                if (checksum(payload) != checksum) {
+                    log.warn("Stopping replay of {} at a record with a bad checksum", file.getFileName());
+                    break;
+                }
+
+                apply(decode(payload));
+                replayed++;
+            }
+        }
+
+        return replayed;
+    }
+
+    private void apply(LogRecord record) {
+        LoggedCollection<?> collection = collections.get(record.collection());
+
+        if (collection == null) {
+            log.warn("Skipping record for unknown collection '{}'", record.collection());
+            return;
+        }
+
+        collection.apply(record);
+    }
+
+    private void compact(long fromSequence) throws IOException {
+        for (long sequence : sequences(SEGMENT_FILE)) {
+            if (sequence < fromSequence) {
+                Files.deleteIfExists(directory.resolve(segmentFileName(sequence)));
+            }
+        }
+
+        for (long sequence : sequences(SNAPSHOT_FILE)) {
+            if (sequence < fromSequence) {
+                Files.deleteIfExists(directory.resolve(snapshotFileName(sequence)));
+            }
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception exception) {
+            log.error("Local store snapshot failed", exception);
+        }
+    }
+
+    private void openSegment(long sequence, long size) throws IOException {
+        if (segment != null) {
+            segment.force();
+            segmentChannel.close();
+        }
+
+        segmentChannel = FileChannel.open(directory.resolve(segmentFileName(sequence)), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        segmentSequence = sequence;
+    }
+
+    private void writeFrame(FileChannel channel, byte[] payload) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length);
+        frame.putInt(payload.length).putInt(checksum(payload)).put(payload).flip();
+
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    private byte[] encode(LogRecord record) {
+        ObjectNode node = objectMapper.createObjectNode()
+                .put("op", record.operation().name())
+                .put("collection", record.collection())
+                .put("type", record.type())
+                .put("id", record.id());
+        node.set("entity", record.entity());
+
+        try {
+            return objectMapper.writeValueAsBytes(node);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private LogRecord decode(byte[] payload) throws IOException {
+        JsonNode node = objectMapper.readTree(payload);
+        return new LogRecord(LogRecord.Operation.valueOf(node.path("op").asText()),
+                node.path("collection").asText(),
+                node.path("type").textValue(),
+                node.path("id").textValue(),
+                node.get("entity"));
+    }
+
+    JsonNode toTree(Object entity) {
+        return objectMapper.valueToTree(entity);
+    }
+
+    <T> T fromTree(JsonNode tree, Class<T> type) throws IOException {
+        return objectMapper.treeToValue(tree, type);
+    }
+
+    private OptionalLong latestSequence(Pattern pattern) throws IOException {
+        List<Long> sequences = sequences(pattern);
+        return sequences.isEmpty() ? OptionalLong.empty() : OptionalLong.of(sequences.get(sequences.size() - 1));
+    }
+
+    private List<Long> sequences(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> pattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static String segmentFileName(long sequence) {
+        return String.format("segment-%012d.log", sequence);
+    }
+
+    private static String snapshotFileName(long sequence) {
+        return String.format("snapshot-%012d.dat", sequence);
+    }
+}
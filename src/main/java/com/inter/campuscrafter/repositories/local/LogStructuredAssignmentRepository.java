@@ -0,0 +1,44 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.repositories.memory.InMemoryAssignmentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Repository
+@Profile("local")
+public class LogStructuredAssignmentRepository extends InMemoryAssignmentRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<Assignment> log;
+
+    public LogStructuredAssignmentRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("assignments", Assignment.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public Assignment save(Assignment entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected Optional<Assignment> update(String id, UnaryOperator<Assignment> change) {
+        return logStore.write(() -> super.update(id, change));
+    }
+
+    @Override
+    protected void beforeWrite(String id, Assignment entity) {
+        log.append(id, entity);
+    }
+}
@@ -0,0 +1,44 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.repositories.memory.InMemoryCourseRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Repository
+@Profile("local")
+public class LogStructuredCourseRepository extends InMemoryCourseRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<Course> log;
+
+    public LogStructuredCourseRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("courses", Course.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public Course save(Course entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected Optional<Course> update(String id, UnaryOperator<Course> change) {
+        return logStore.write(() -> super.update(id, change));
+    }
+
+    @Override
+    protected void beforeWrite(String id, Course entity) {
+        log.append(id, entity);
+    }
+}
@@ -0,0 +1,44 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.DeletionTask;
+import com.inter.campuscrafter.repositories.memory.InMemoryDeletionTaskRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Repository
+@Profile("local")
+public class LogStructuredDeletionTaskRepository extends InMemoryDeletionTaskRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<DeletionTask> log;
+
+    public LogStructuredDeletionTaskRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("deletion_tasks", DeletionTask.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public DeletionTask save(DeletionTask entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected Optional<DeletionTask> update(String id, UnaryOperator<DeletionTask> change) {
+        return logStore.write(() -> super.update(id, change));
+    }
+
+    @Override
+    protected void beforeWrite(String id, DeletionTask entity) {
+        log.append(id, entity);
+    }
+}
@@ -0,0 +1,36 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.Enrollment;
+import com.inter.campuscrafter.repositories.memory.InMemoryEnrollmentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("local")
+public class LogStructuredEnrollmentRepository extends InMemoryEnrollmentRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<Enrollment> log;
+
+    public LogStructuredEnrollmentRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("enrollments", Enrollment.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public Enrollment save(Enrollment entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected void beforeWrite(String id, Enrollment entity) {
+        log.append(id, entity);
+    }
+}
@@ -0,0 +1,44 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.Grade;
+import com.inter.campuscrafter.repositories.memory.InMemoryGradeRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Repository
+@Profile("local")
+public class LogStructuredGradeRepository extends InMemoryGradeRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<Grade> log;
+
+    public LogStructuredGradeRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("grades", Grade.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public Grade save(Grade entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected Optional<Grade> update(String id, UnaryOperator<Grade> change) {
+        return logStore.write(() -> super.update(id, change));
+    }
+
+    @Override
+    protected void beforeWrite(String id, Grade entity) {
+        log.append(id, entity);
+    }
+}
@@ -0,0 +1,44 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.GradeStatistics;
+import com.inter.campuscrafter.repositories.memory.InMemoryGradeStatisticsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Repository
+@Profile("local")
+public class LogStructuredGradeStatisticsRepository extends InMemoryGradeStatisticsRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<GradeStatistics> log;
+
+    public LogStructuredGradeStatisticsRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("grade_statistics", GradeStatistics.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public GradeStatistics save(GradeStatistics entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected Optional<GradeStatistics> update(String id, UnaryOperator<GradeStatistics> change) {
+        return logStore.write(() -> super.update(id, change));
+    }
+
+    @Override
+    protected void beforeWrite(String id, GradeStatistics entity) {
+        log.append(id, entity);
+    }
+}
@@ -0,0 +1,28 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.Migration;
+import com.inter.campuscrafter.repositories.memory.InMemoryMigrationRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("local")
+public class LogStructuredMigrationRepository extends InMemoryMigrationRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<Migration> log;
+
+    public LogStructuredMigrationRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("migrations", Migration.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public Migration save(Migration entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    protected void beforeWrite(String id, Migration entity) {
+        log.append(id, entity);
+    }
+}
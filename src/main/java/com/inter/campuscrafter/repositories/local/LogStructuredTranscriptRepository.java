@@ -0,0 +1,36 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.Transcript;
+import com.inter.campuscrafter.repositories.memory.InMemoryTranscriptRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("local")
+public class LogStructuredTranscriptRepository extends InMemoryTranscriptRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<Transcript> log;
+
+    public LogStructuredTranscriptRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("transcripts", Transcript.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public Transcript save(Transcript entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected void beforeWrite(String id, Transcript entity) {
+        log.append(id, entity);
+    }
+}
@@ -0,0 +1,44 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.repositories.memory.InMemoryUserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Repository
+@Profile("local")
+public class LogStructuredUserRepository extends InMemoryUserRepository {
+    private final LogStore logStore;
+    private final LoggedCollection<User> log;
+
+    public LogStructuredUserRepository(LogStore logStore) {
+        this.logStore = logStore;
+        this.log = logStore.register("user_profiles", User.class, this::snapshot, this::restore, this::restoreDelete);
+    }
+
+    @Override
+    public User save(User entity) {
+        return logStore.write(() -> super.save(entity));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        logStore.write(() -> {
+            super.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    protected Optional<User> update(String id, UnaryOperator<User> change) {
+        return logStore.write(() -> super.update(id, change));
+    }
+
+    @Override
+    protected void beforeWrite(String id, User entity) {
+        log.append(id, entity);
+    }
+}
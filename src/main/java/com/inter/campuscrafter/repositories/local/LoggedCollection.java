@@ -0,0 +1,85 @@
+package com.inter.campuscrafter.repositories.local;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Slf4j
+public class LoggedCollection<T> {
+    private final LogStore logStore;
+    private final String name;
+    private final Class<T> entityType;
+    private final Supplier<List<T>> snapshot;
+    private final Consumer<T> restore;
+    private final Consumer<String> restoreDelete;
+
+    LoggedCollection(LogStore logStore,
+                     String name,
+                     Class<T> entityType,
+                     Supplier<List<T>> snapshot,
+                     Consumer<T> restore,
+                     Consumer<String> restoreDelete) {
+        this.logStore = logStore;
+        this.name = name;
+        this.entityType = entityType;
+        this.snapshot = snapshot;
+        this.restore = restore;
+        this.restoreDelete = restoreDelete;
+    }
+
+    public void append(String id, T entity) {
+        logStore.append(entity == null ? deleteRecord(id) : saveRecord(id, entity));
+    }
+
+    // Takes the point-in-time view now and returns what encodes it, so the store can do that outside its lock.
+    Supplier<Stream<LogRecord>> snapshotRecords() {
+        List<T> entities = snapshot.get();
+        return () -> entities.stream().map(entity -> saveRecord(null, entity));
+    }
+
+    void apply(LogRecord record) {
+        if (record.operation() == LogRecord.Operation.DELETE) {
+            restoreDelete.accept(record.id());
+            return;
+        }
+
+        Class<? extends T> type = resolveType(record.type());
+
+        if (type == null) {
+            log.warn("Skipping '{}' record of unexpected type {}", name, record.type());
+            return;
+        }
+
+        try {
+            restore.accept(logStore.fromTree(record.entity(), type));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not read '" + name + "' record " + record.id(), exception);
+        }
+    }
+
+    private LogRecord saveRecord(String id, T entity) {
+        return new LogRecord(LogRecord.Operation.SAVE, name, entity.getClass().getName(), id, logStore.toTree(entity));
+    }
+
+    private LogRecord deleteRecord(String id) {
+        return new LogRecord(LogRecord.Operation.DELETE, name, null, id, null);
+    }
+
+    private Class<? extends T> resolveType(String typeName) {
+        if (typeName == null) {
+            return null;
+        }
+
+        try {
+            Class<?> type = Class.forName(typeName, false, entityType.getClassLoader());
+            return entityType.isAssignableFrom(type) ? type.asSubclass(entityType) : null;
+        } catch (ClassNotFoundException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.repositories.interfaces.AssignmentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryAssignmentRepository extends InMemoryRepository<Assignment> implements AssignmentRepository {
+    private final SecondaryIndex<Assignment> byCourseId = index("courseId", Assignment::getCourseId);
+
+    public InMemoryAssignmentRepository() {
+        super(Assignment::getId, Assignment::setId, InMemoryAssignmentRepository::copy);
+    }
+
+    @Override
+    public List<Assignment> findAllByCourseId(String courseId) {
+        return findAllBy(byCourseId, courseId);
+    }
+
+    @Override
+    public List<Assignment> findByCourseId(String courseId, Pageable pageable) {
+        return page(findAllByCourseId(courseId), pageable);
+    }
+
+    @Override
+    public long countByCourseId(String courseId) {
+        return countBy(byCourseId, courseId);
+    }
+
+    @Override
+    public void deleteAllByCourseId(String courseId) {
+        deleteAllBy(byCourseId, courseId);
+    }
+
+    @Override
+    public List<Assignment> findPageAfter(String afterId, int limit) {
+        return findAll().stream()
+                .filter(assignment -> afterId == null || assignment.getId().compareTo(afterId) > 0)
+                .limit(limit)
+                .toList();
+    }
+
+    private static Assignment copy(Assignment assignment) {
+        Assignment copy = new Assignment();
+        copy.setId(assignment.getId());
+        copy.setTitle(assignment.getTitle());
+        copy.setContent(assignment.getContent());
+        copy.setDueDate(assignment.getDueDate());
+        copy.setCourseId(assignment.getCourseId());
+        copy.setPostedDate(assignment.getPostedDate());
+        copy.setMaxScore(assignment.getMaxScore());
+        copy.setSubmissionFormat(assignment.getSubmissionFormat());
+        copy.setVersion(assignment.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,75 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.repositories.interfaces.CourseRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryCourseRepository extends InMemoryRepository<Course> implements CourseRepository {
+    private final SecondaryIndex<Course> byTeacherId = index("teacherId", Course::getTeacherId);
+    private final SecondaryIndex<Course> byStatus = index("status", InMemoryCourseRepository::status);
+    private final SecondaryIndex<Course> byStatusAndTeacherId = index("status_teacherId",
+            course -> compoundKey(status(course), course.getTeacherId()));
+
+    public InMemoryCourseRepository() {
+        super(Course::getId, Course::setId, InMemoryCourseRepository::copy);
+    }
+
+    @Override
+    public List<Course> findAllByStatusAndTeacherId(String status, String teacherId) {
+        return findAllBy(byStatusAndTeacherId, compoundKey(status, teacherId));
+    }
+
+    @Override
+    public List<Course> findAllByStatus(String status) {
+        return findAllBy(byStatus, status);
+    }
+
+    @Override
+    public List<Course> findAllByTeacherId(String teacherId) {
+        return findAllBy(byTeacherId, teacherId);
+    }
+
+    @Override
+    public List<Course> findPage(String status, String teacherId, String after, int limit, Collection<String> fields) {
+        List<Course> candidates;
+
+        if (status != null && teacherId != null) {
+            candidates = findAllByStatusAndTeacherId(status, teacherId);
+        } else if (status != null) {
+            candidates = findAllByStatus(status);
+        } else if (teacherId != null) {
+            candidates = findAllByTeacherId(teacherId);
+        } else {
+            candidates = findAll();
+        }
+
+        return candidates.stream()
+                .filter(course -> after == null || course.getId().compareTo(after) > 0)
+                .limit(limit)
+                .toList();
+    }
+
+    private static String status(Course course) {
+        return course.getStatus() == null ? null : course.getStatus().name();
+    }
+
+    private static Course copy(Course course) {
+        Course copy = new Course();
+        copy.setId(course.getId());
+        copy.setTitle(course.getTitle());
+        copy.setDescription(course.getDescription());
+        copy.setTeacherId(course.getTeacherId());
+        copy.setStartDate(course.getStartDate());
+        copy.setCredits(course.getCredits());
+        copy.setEnrollmentLimit(course.getEnrollmentLimit());
+        copy.setStatus(course.getStatus());
+        copy.setVersion(course.getVersion());
+        return copy;
+    }
+}
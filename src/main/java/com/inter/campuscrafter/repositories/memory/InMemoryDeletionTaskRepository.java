@@ -0,0 +1,73 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.DeletionStatus;
+import com.inter.campuscrafter.entities.DeletionTask;
+import com.inter.campuscrafter.repositories.interfaces.DeletionTaskRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryDeletionTaskRepository extends InMemoryRepository<DeletionTask> implements DeletionTaskRepository {
+    private final SecondaryIndex<DeletionTask> byStatus = index("status", InMemoryDeletionTaskRepository::status);
+
+    public InMemoryDeletionTaskRepository() {
+        super(DeletionTask::getId, DeletionTask::setId, InMemoryDeletionTaskRepository::copy);
+    }
+
+    @Override
+    public List<DeletionTask> findAllByStatusIn(Collection<DeletionStatus> statuses) {
+        return statuses.stream()
+                .flatMap(status -> findAllBy(byStatus, status.name()).stream())
+                .toList();
+    }
+
+    @Override
+    public Optional<DeletionTask> claim(String id, LocalDateTime now, LocalDateTime leaseUntil) {
+        AtomicBoolean claimed = new AtomicBoolean();
+
+        Optional<DeletionTask> task = update(id, deletionTask -> {
+            if (deletionTask != null && isClaimable(deletionTask, now)) {
+                deletionTask.setStatus(DeletionStatus.RUNNING);
+                deletionTask.setLeaseUntil(leaseUntil);
+                deletionTask.setUpdatedAt(now);
+                claimed.set(true);
+            }
+            return deletionTask;
+        });
+        return claimed.get() ? task : Optional.empty();
+    }
+
+    private static boolean isClaimable(DeletionTask deletionTask, LocalDateTime now) {
+        return (deletionTask.getStatus() == DeletionStatus.PENDING || deletionTask.getStatus() == DeletionStatus.RUNNING)
+                && (deletionTask.getLeaseUntil() == null || !deletionTask.getLeaseUntil().isAfter(now))
+                && (deletionTask.getNextAttemptAt() == null || !deletionTask.getNextAttemptAt().isAfter(now));
+    }
+
+    private static String status(DeletionTask deletionTask) {
+        return deletionTask.getStatus() == null ? null : deletionTask.getStatus().name();
+    }
+
+    private static DeletionTask copy(DeletionTask deletionTask) {
+        DeletionTask copy = new DeletionTask();
+        copy.setId(deletionTask.getId());
+        copy.setTargetType(deletionTask.getTargetType());
+        copy.setTargetId(deletionTask.getTargetId());
+        copy.setStatus(deletionTask.getStatus());
+        copy.setStep(deletionTask.getStep());
+        copy.setDeletedCount(deletionTask.getDeletedCount());
+        copy.setAttempts(deletionTask.getAttempts());
+        copy.setLastError(deletionTask.getLastError());
+        copy.setCreatedAt(deletionTask.getCreatedAt());
+        copy.setUpdatedAt(deletionTask.getUpdatedAt());
+        copy.setNextAttemptAt(deletionTask.getNextAttemptAt());
+        copy.setLeaseUntil(deletionTask.getLeaseUntil());
+        return copy;
+    }
+}
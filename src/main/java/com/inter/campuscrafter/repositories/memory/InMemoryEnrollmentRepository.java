@@ -0,0 +1,84 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Enrollment;
+import com.inter.campuscrafter.repositories.interfaces.EnrollmentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryEnrollmentRepository extends InMemoryRepository<Enrollment> implements EnrollmentRepository {
+    private final SecondaryIndex<Enrollment> byStudentIdAndCourseId = uniqueIndex("student_course",
+            enrollment -> compoundKey(enrollment.getStudentId(), enrollment.getCourseId()));
+    private final SecondaryIndex<Enrollment> byStudentId = index("studentId", Enrollment::getStudentId);
+    private final SecondaryIndex<Enrollment> byCourseId = index("courseId", Enrollment::getCourseId);
+
+    public InMemoryEnrollmentRepository() {
+        super(Enrollment::getId, Enrollment::setId, InMemoryEnrollmentRepository::copy);
+    }
+
+    @Override
+    public boolean existsByStudentIdAndCourseId(String studentId, String courseId) {
+        return existsBy(byStudentIdAndCourseId, compoundKey(studentId, courseId));
+    }
+
+    @Override
+    public boolean existsByStudentIdAndCourseIdIn(String studentId, Collection<String> courseIds) {
+        return courseIds.stream().anyMatch(courseId -> existsByStudentIdAndCourseId(studentId, courseId));
+    }
+
+    @Override
+    public List<Enrollment> findAllByStudentId(String studentId) {
+        return findAllBy(byStudentId, studentId);
+    }
+
+    @Override
+    public List<Enrollment> findAllByCourseId(String courseId) {
+        return findAllBy(byCourseId, courseId);
+    }
+
+    @Override
+    public List<Enrollment> findAllByStudentIdIn(Collection<String> studentIds) {
+        return studentIds.stream()
+                .flatMap(studentId -> findAllByStudentId(studentId).stream())
+                .toList();
+    }
+
+    @Override
+    public List<Enrollment> findByStudentId(String studentId, Pageable pageable) {
+        return page(findAllByStudentId(studentId), pageable);
+    }
+
+    @Override
+    public List<Enrollment> findByCourseId(String courseId, Pageable pageable) {
+        return page(findAllByCourseId(courseId), pageable);
+    }
+
+    @Override
+    public long countByCourseId(String courseId) {
+        return countBy(byCourseId, courseId);
+    }
+
+    @Override
+    public void deleteAllByStudentId(String studentId) {
+        deleteAllBy(byStudentId, studentId);
+    }
+
+    @Override
+    public void deleteAllByCourseId(String courseId) {
+        deleteAllBy(byCourseId, courseId);
+    }
+
+    private static Enrollment copy(Enrollment enrollment) {
+        Enrollment copy = new Enrollment();
+        copy.setId(enrollment.getId());
+        copy.setStudentId(enrollment.getStudentId());
+        copy.setCourseId(enrollment.getCourseId());
+        copy.setEnrolledAt(enrollment.getEnrolledAt());
+        return copy;
+    }
+}
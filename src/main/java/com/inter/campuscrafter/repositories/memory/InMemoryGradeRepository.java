@@ -0,0 +1,116 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Grade;
+import com.inter.campuscrafter.repositories.interfaces.GradeRepository;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryGradeRepository extends InMemoryRepository<Grade> implements GradeRepository {
+    private final SecondaryIndex<Grade> byStudentId = index("studentId", Grade::getStudentId);
+    private final SecondaryIndex<Grade> byAssignmentId = index("assignmentId", Grade::getAssignmentId);
+
+    public InMemoryGradeRepository() {
+        super(Grade::getId, Grade::setId, InMemoryGradeRepository::copy);
+    }
+
+    // Like the bulk insert against Mongo, a grade whose id is already taken is rejected rather than overwritten.
+    @Override
+    public Map<Integer, String> insertAll(List<Grade> grades) {
+        Map<Integer, String> failures = new HashMap<>();
+
+        for (int i = 0; i < grades.size(); i++) {
+            Grade grade = grades.get(i);
+
+            if (grade.getId() == null) {
+                grade.setId(new ObjectId().toHexString());
+            }
+
+            try {
+                Grade stored = copy(grade);
+                update(grade.getId(), current -> {
+                    if (current != null) {
+                        throw new DuplicateKeyException("Duplicate key '" + grade.getId() + "' for index _id");
+                    }
+                    return stored;
+                });
+            } catch (RuntimeException exception) {
+                failures.put(i, exception.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public List<Grade> findByAssignmentId(String assignmentId) {
+        return findAllBy(byAssignmentId, assignmentId);
+    }
+
+    @Override
+    public Optional<Grade> findFirstByAssignmentIdOrderByScoreAsc(String assignmentId) {
+        return findByAssignmentId(assignmentId).stream().min(Comparator.comparingInt(Grade::getScore));
+    }
+
+    @Override
+    public Optional<Grade> findFirstByAssignmentIdOrderByScoreDesc(String assignmentId) {
+        return findByAssignmentId(assignmentId).stream().max(Comparator.comparingInt(Grade::getScore));
+    }
+
+    @Override
+    public Map<Integer, Long> countByScore(String assignmentId) {
+        return findByAssignmentId(assignmentId).stream()
+                .collect(Collectors.groupingBy(Grade::getScore, Collectors.counting()));
+    }
+
+    @Override
+    public List<Grade> findByAssignmentIdIn(Collection<String> assignmentIds, Pageable pageable) {
+        List<Grade> grades = assignmentIds.stream()
+                .flatMap(assignmentId -> findByAssignmentId(assignmentId).stream())
+                .toList();
+        return page(grades, pageable);
+    }
+
+    @Override
+    public List<Grade> findByStudentId(String studentId) {
+        return findAllBy(byStudentId, studentId);
+    }
+
+    @Override
+    public List<Grade> findByStudentId(String studentId, Pageable pageable) {
+        return page(findByStudentId(studentId), pageable);
+    }
+
+    @Override
+    public Stream<Grade> streamAllByStudentId(String studentId) {
+        return findByStudentId(studentId).stream();
+    }
+
+    @Override
+    public void deleteAllByStudentId(String studentId) {
+        deleteAllBy(byStudentId, studentId);
+    }
+
+    private static Grade copy(Grade grade) {
+        Grade copy = new Grade();
+        copy.setId(grade.getId());
+        copy.setStudentId(grade.getStudentId());
+        copy.setAssignmentId(grade.getAssignmentId());
+        copy.setScore(grade.getScore());
+        copy.setFeedback(grade.getFeedback());
+        copy.setSubmissionDate(grade.getSubmissionDate());
+        return copy;
+    }
+}
@@ -0,0 +1,82 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.GradeStatistics;
+import com.inter.campuscrafter.entities.StatisticsScope;
+import com.inter.campuscrafter.repositories.interfaces.GradeStatisticsRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryGradeStatisticsRepository extends InMemoryRepository<GradeStatistics>
+        implements GradeStatisticsRepository {
+    private final SecondaryIndex<GradeStatistics> byCourseId = index("courseId", GradeStatistics::getCourseId);
+
+    public InMemoryGradeStatisticsRepository() {
+        super(GradeStatistics::getId, GradeStatistics::setId, InMemoryGradeStatisticsRepository::copy);
+    }
+
+    @Override
+    public List<GradeStatistics> findAllByCourseIdAndScope(String courseId, StatisticsScope scope) {
+        return findAllBy(byCourseId, courseId).stream()
+                .filter(statistics -> statistics.getScope() == scope)
+                .toList();
+    }
+
+    @Override
+    public void add(GradeStatistics statistics, double value, String bucket) {
+        update(statistics.getId(), current -> {
+            GradeStatistics updated = current == null ? copy(statistics) : current;
+            updated.setCount(updated.getCount() + 1);
+            updated.setSum(updated.getSum() + value);
+            updated.setSumOfSquares(updated.getSumOfSquares() + value * value);
+            updated.getHistogram().merge(bucket, 1L, Long::sum);
+            updated.setMin(updated.getMin() == null ? value : Math.min(updated.getMin(), value));
+            updated.setMax(updated.getMax() == null ? value : Math.max(updated.getMax(), value));
+            return updated;
+        });
+    }
+
+    @Override
+    public Optional<GradeStatistics> subtract(String id, double value, String bucket) {
+        return update(id, current -> {
+            if (current != null) {
+                current.setCount(current.getCount() - 1);
+                current.setSum(current.getSum() - value);
+                current.setSumOfSquares(current.getSumOfSquares() - value * value);
+                current.getHistogram().merge(bucket, -1L, Long::sum);
+            }
+            return current;
+        });
+    }
+
+    @Override
+    public void updateRange(String id, Double min, Double max) {
+        update(id, current -> {
+            if (current != null) {
+                current.setMin(min);
+                current.setMax(max);
+            }
+            return current;
+        });
+    }
+
+    private static GradeStatistics copy(GradeStatistics statistics) {
+        GradeStatistics copy = new GradeStatistics();
+        copy.setId(statistics.getId());
+        copy.setScope(statistics.getScope());
+        copy.setCourseId(statistics.getCourseId());
+        copy.setMaxScore(statistics.getMaxScore());
+        copy.setCount(statistics.getCount());
+        copy.setSum(statistics.getSum());
+        copy.setSumOfSquares(statistics.getSumOfSquares());
+        copy.setMin(statistics.getMin());
+        copy.setMax(statistics.getMax());
+        copy.setHistogram(new HashMap<>(statistics.getHistogram()));
+        return copy;
+    }
+}
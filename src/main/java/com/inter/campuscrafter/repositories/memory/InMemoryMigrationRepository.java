@@ -0,0 +1,21 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Migration;
+import com.inter.campuscrafter.repositories.interfaces.MigrationRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryMigrationRepository extends InMemoryRepository<Migration> implements MigrationRepository {
+    public InMemoryMigrationRepository() {
+        super(Migration::getId, Migration::setId, InMemoryMigrationRepository::copy);
+    }
+
+    private static Migration copy(Migration migration) {
+        Migration copy = new Migration(migration.getId());
+        copy.setResumeAfter(migration.getResumeAfter());
+        copy.setCompletedAt(migration.getCompletedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,21 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.repositories.interfaces.AssignmentRepository;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+@Profile({"in-memory", "local"})
+@RequiredArgsConstructor
+public class InMemoryReactiveAssignmentRepository implements ReactiveAssignmentRepository {
+    private final AssignmentRepository assignmentRepository;
+
+    @Override
+    public Flux<Assignment> findAllByCourseId(String courseId) {
+        return Flux.defer(() -> Flux.fromIterable(assignmentRepository.findAllByCourseId(courseId)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.repositories.interfaces.CourseRepository;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveCourseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile({"in-memory", "local"})
+@RequiredArgsConstructor
+public class InMemoryReactiveCourseRepository implements ReactiveCourseRepository {
+    private final CourseRepository courseRepository;
+
+    @Override
+    public Mono<Course> findById(String id) {
+        return Mono.fromSupplier(() -> courseRepository.findById(id).orElse(null));
+    }
+
+    @Override
+    public Flux<Course> findAll() {
+        return Flux.defer(() -> Flux.fromIterable(courseRepository.findAll()));
+    }
+
+    @Override
+    public Flux<Course> findAllByStatusAndTeacherId(String status, String teacherId) {
+        return Flux.defer(() -> Flux.fromIterable(courseRepository.findAllByStatusAndTeacherId(status, teacherId)));
+    }
+
+    @Override
+    public Flux<Course> findAllByStatus(String status) {
+        return Flux.defer(() -> Flux.fromIterable(courseRepository.findAllByStatus(status)));
+    }
+
+    @Override
+    public Flux<Course> findAllByTeacherId(String teacherId) {
+        return Flux.defer(() -> Flux.fromIterable(courseRepository.findAllByTeacherId(teacherId)));
+    }
+}
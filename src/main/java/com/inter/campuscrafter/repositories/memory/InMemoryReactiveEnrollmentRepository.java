@@ -0,0 +1,20 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.repositories.interfaces.EnrollmentRepository;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveEnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile({"in-memory", "local"})
+@RequiredArgsConstructor
+public class InMemoryReactiveEnrollmentRepository implements ReactiveEnrollmentRepository {
+    private final EnrollmentRepository enrollmentRepository;
+
+    @Override
+    public Mono<Boolean> existsByStudentIdAndCourseId(String studentId, String courseId) {
+        return Mono.fromSupplier(() -> enrollmentRepository.existsByStudentIdAndCourseId(studentId, courseId));
+    }
+}
@@ -0,0 +1,226 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.exceptions.VersionConflictException;
+import org.bson.types.ObjectId;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+public abstract class InMemoryRepository<T> {
+    private static final int LOCK_STRIPES = 64;
+
+    private final ConcurrentHashMap<String, T> entities = new ConcurrentHashMap<>();
+    // Writes to one id are serialized by its stripe rather than by ConcurrentHashMap.compute, so beforeWrite can do
+    // I/O without holding a map bin lock that also blocks unrelated keys and resizing.
+    private final Lock[] locks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(stripe -> new ReentrantLock())
+            .toArray(Lock[]::new);
+    private final List<SecondaryIndex<T>> indexes = new ArrayList<>();
+    private final Function<T, String> idGetter;
+    private final BiConsumer<T, String> idSetter;
+    private final UnaryOperator<T> copier;
+    private final Comparator<T> idOrder;
+
+    protected InMemoryRepository(Function<T, String> idGetter, BiConsumer<T, String> idSetter, UnaryOperator<T> copier) {
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+        this.copier = copier;
+        this.idOrder = Comparator.comparing(idGetter);
+    }
+
+    protected SecondaryIndex<T> index(String name, Function<T, String> keyFunction) {
+        return addIndex(new SecondaryIndex<>(name, keyFunction, false));
+    }
+
+    protected SecondaryIndex<T> uniqueIndex(String name, Function<T, String> keyFunction) {
+        SecondaryIndex<T> index = new SecondaryIndex<>(name, keyFunction, true);
+        // Unique indexes are updated first so a duplicate key rejects the save before any other index changes.
+        indexes.add(0, index);
+        return index;
+    }
+
+    public Optional<T> findById(String id) {
+        return Optional.ofNullable(entities.get(id)).map(copier);
+    }
+
+    public List<T> findAll() {
+        return entities.values().stream()
+                .sorted(idOrder)
+                .map(copier)
+                .toList();
+    }
+
+    public T save(T entity) {
+        if (idGetter.apply(entity) == null) {
+            idSetter.accept(entity, new ObjectId().toHexString());
+        }
+
+        T stored = copier.apply(entity);
+        write(idGetter.apply(entity), previous -> stored, true);
+        return entity;
+    }
+
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+
+        for (S entity : entities) {
+            save(entity);
+            saved.add(entity);
+        }
+        return saved;
+    }
+
+    public void deleteById(String id) {
+        write(id, previous -> null, true);
+    }
+
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    // Sets the given properties and bumps the version property, provided the stored version still equals
+    // expectedVersion; null skips the check. Empty when there is no entity with this id.
+    public Optional<T> updateFields(String id, Long expectedVersion, Map<String, Object> fields) {
+        return update(id, entity -> {
+            if (entity == null) {
+                return null;
+            }
+
+            BeanWrapper properties = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+            long version = (long) properties.getPropertyValue("version");
+
+            if (expectedVersion != null && expectedVersion != version) {
+                throw new VersionConflictException(id, expectedVersion);
+            }
+
+            properties.setPropertyValues(fields);
+            properties.setPropertyValue("version", version + 1);
+            return entity;
+        });
+    }
+
+    protected void beforeWrite(String id, T entity) {
+    }
+
+    // Stored entities are replaced on every write and never changed in place, so the references alone are a
+    // consistent view, and taking it costs no copying. Callers must not modify what they get.
+    protected List<T> snapshot() {
+        return List.copyOf(entities.values());
+    }
+
+    protected void restore(T entity) {
+        T stored = copier.apply(entity);
+        write(idGetter.apply(entity), previous -> stored, false);
+    }
+
+    protected void restoreDelete(String id) {
+        write(id, previous -> null, false);
+    }
+
+    // The change receives a copy of the current entity, or null when there is none, and returns the entity to store.
+    protected Optional<T> update(String id, UnaryOperator<T> change) {
+        return Optional.ofNullable(write(id, previous -> change.apply(previous == null ? null : copier.apply(previous)), true))
+                .map(copier);
+    }
+
+    protected List<T> findAllBy(SecondaryIndex<T> index, String key) {
+        return index.ids(key).stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .filter(entity -> index.matches(entity, key))
+                .sorted(idOrder)
+                .map(copier)
+                .toList();
+    }
+
+    protected List<T> page(List<T> entities, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return entities;
+        }
+
+        return entities.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    protected boolean existsBy(SecondaryIndex<T> index, String key) {
+        return index.ids(key).stream()
+                .map(entities::get)
+                .anyMatch(entity -> entity != null && index.matches(entity, key));
+    }
+
+    protected long countBy(SecondaryIndex<T> index, String key) {
+        return index.ids(key).stream()
+                .map(entities::get)
+                .filter(entity -> entity != null && index.matches(entity, key))
+                .count();
+    }
+
+    protected void deleteAllBy(SecondaryIndex<T> index, String key) {
+        List.copyOf(index.ids(key)).forEach(this::deleteById);
+    }
+
+    protected static String compoundKey(String... parts) {
+        for (String part : parts) {
+            if (part == null) {
+                return null;
+            }
+        }
+        return String.join("\u0000", parts);
+    }
+
+    // beforeWrite runs under the id's lock, so writes to one id reach it in the order they are applied.
+    // Indexes are updated first so a unique-key violation is never handed to beforeWrite.
+    private T write(String id, UnaryOperator<T> change, boolean notify) {
+        Lock lock = locks[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            T previous = entities.get(id);
+            T stored = change.apply(previous);
+
+            if (previous == null && stored == null) {
+                return null;
+            }
+
+            indexes.forEach(index -> index.update(id, previous, stored));
+
+            if (notify) {
+                try {
+                    beforeWrite(id, stored);
+                } catch (RuntimeException exception) {
+                    indexes.forEach(index -> index.update(id, stored, previous));
+                    throw exception;
+                }
+            }
+
+            if (stored == null) {
+                entities.remove(id);
+            } else {
+                entities.put(id, stored);
+            }
+            return stored;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SecondaryIndex<T> addIndex(SecondaryIndex<T> index) {
+        indexes.add(index);
+        return index;
+    }
+}
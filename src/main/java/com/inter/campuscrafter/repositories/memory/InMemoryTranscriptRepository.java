@@ -0,0 +1,38 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Transcript;
+import com.inter.campuscrafter.repositories.interfaces.TranscriptRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryTranscriptRepository extends InMemoryRepository<Transcript> implements TranscriptRepository {
+    public InMemoryTranscriptRepository() {
+        super(Transcript::getStudentId, Transcript::setStudentId, InMemoryTranscriptRepository::copy);
+    }
+
+    private static Transcript copy(Transcript transcript) {
+        Transcript copy = new Transcript();
+        copy.setStudentId(transcript.getStudentId());
+        copy.setCourses(new ArrayList<>(transcript.getCourses().stream().map(InMemoryTranscriptRepository::copy).toList()));
+        copy.setTotalCredits(transcript.getTotalCredits());
+        copy.setWeightedPercentage(transcript.getWeightedPercentage());
+        copy.setUpdatedAt(transcript.getUpdatedAt());
+        return copy;
+    }
+
+    private static Transcript.CourseResult copy(Transcript.CourseResult courseResult) {
+        Transcript.CourseResult copy = new Transcript.CourseResult();
+        copy.setCourseId(courseResult.getCourseId());
+        copy.setTitle(courseResult.getTitle());
+        copy.setCredits(courseResult.getCredits());
+        copy.setGradedAssignments(courseResult.getGradedAssignments());
+        copy.setEarnedPoints(courseResult.getEarnedPoints());
+        copy.setPossiblePoints(courseResult.getPossiblePoints());
+        copy.setPercentage(courseResult.getPercentage());
+        return copy;
+    }
+}
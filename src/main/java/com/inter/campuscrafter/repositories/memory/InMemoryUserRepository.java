@@ -0,0 +1,90 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Student;
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryUserRepository extends InMemoryRepository<User> implements UserRepository {
+    private final SecondaryIndex<User> byEmail = uniqueIndex("email", User::getEmail);
+
+    public InMemoryUserRepository() {
+        super(User::getId, User::setId, InMemoryUserRepository::copy);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String username) {
+        return findAllBy(byEmail, username).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Student> findStudentById(String id) {
+        return findById(id)
+                .filter(Student.class::isInstance)
+                .map(Student.class::cast);
+    }
+
+    @Override
+    public List<Student> findStudentsWithCourseIds(String afterId, int limit) {
+        return findAll().stream()
+                .filter(user -> afterId == null || user.getId().compareTo(afterId) > 0)
+                .filter(Student.class::isInstance)
+                .map(Student.class::cast)
+                .filter(student -> student.getCourseIds() != null && !student.getCourseIds().isEmpty())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void updateLastLogins(Map<String, LocalDateTime> lastLogins) {
+        lastLogins.forEach((userId, lastLogin) -> update(userId, user -> {
+            if (user != null) {
+                user.setLastLogin(lastLogin);
+            }
+            return user;
+        }));
+    }
+
+    @Override
+    public void updatePassword(String id, String password) {
+        update(id, user -> {
+            if (user != null) {
+                user.setPassword(password);
+            }
+            return user;
+        });
+    }
+
+    private static User copy(User user) {
+        User copy;
+
+        if (user instanceof Student student) {
+            Student studentCopy = new Student();
+            studentCopy.setCourseIds(student.getCourseIds() == null ? null : new ArrayList<>(student.getCourseIds()));
+            copy = studentCopy;
+        } else {
+            copy = new User();
+        }
+
+        copy.setId(user.getId());
+        copy.setName(user.getName());
+        copy.setEmail(user.getEmail());
+        copy.setPassword(user.getPassword());
+        copy.setUserRole(user.getUserRole());
+        copy.setDateJoined(user.getDateJoined());
+        copy.setLastLogin(user.getLastLogin());
+        copy.setBio(user.getBio());
+        copy.setTokenVersion(user.getTokenVersion());
+        copy.setVersion(user.getVersion());
+        return copy;
+    }
+}
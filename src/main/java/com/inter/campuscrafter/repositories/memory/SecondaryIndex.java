@@ -0,0 +1,60 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+class SecondaryIndex<T> {
+    private final String name;
+    private final Function<T, String> keyFunction;
+    private final boolean unique;
+    private final ConcurrentHashMap<String, Set<String>> idsByKey = new ConcurrentHashMap<>();
+
+    SecondaryIndex(String name, Function<T, String> keyFunction, boolean unique) {
+        this.name = name;
+        this.keyFunction = keyFunction;
+        this.unique = unique;
+    }
+
+    String key(T entity) {
+        return keyFunction.apply(entity);
+    }
+
+    boolean matches(T entity, String key) {
+        return Objects.equals(key(entity), key);
+    }
+
+    Set<String> ids(String key) {
+        return key == null ? Set.of() : idsByKey.getOrDefault(key, Set.of());
+    }
+
+    void update(String id, T previous, T current) {
+        String previousKey = previous == null ? null : key(previous);
+        String currentKey = current == null ? null : key(current);
+
+        if (Objects.equals(previousKey, currentKey)) {
+            return;
+        }
+
+        if (currentKey != null) {
+            idsByKey.compute(currentKey, (key, ids) -> {
+                Set<String> keyIds = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                if (unique && !keyIds.isEmpty() && !keyIds.contains(id)) {
+                    throw new DuplicateKeyException("Duplicate key '" + key + "' for index " + name);
+                }
+                keyIds.add(id);
+                return keyIds;
+            });
+        }
+
+        if (previousKey != null) {
+            idsByKey.computeIfPresent(previousKey, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+}
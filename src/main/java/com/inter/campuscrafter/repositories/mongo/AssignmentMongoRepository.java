@@ -6,5 +6,5 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AssignmentMongoRepository extends AssignmentRepository, MongoRepository<Assignment, String> {
+public interface AssignmentMongoRepository extends AssignmentRepository, AssignmentMongoRepositoryCustom, MongoRepository<Assignment, String> {
 }
@@ -0,0 +1,13 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Assignment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface AssignmentMongoRepositoryCustom {
+    Optional<Assignment> updateFields(String id, Long expectedVersion, Map<String, Object> fields);
+
+    List<Assignment> findPageAfter(String afterId, int limit);
+}
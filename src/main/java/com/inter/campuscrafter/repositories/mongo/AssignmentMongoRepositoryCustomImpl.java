@@ -0,0 +1,35 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Assignment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class AssignmentMongoRepositoryCustomImpl implements AssignmentMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Assignment> updateFields(String id, Long expectedVersion, Map<String, Object> fields) {
+        return VersionedUpdate.updateFields(mongoTemplate, Assignment.class, id, expectedVersion, fields);
+    }
+
+    @Override
+    public List<Assignment> findPageAfter(String afterId, int limit) {
+        Query query = new Query()
+                .with(Sort.by("_id"))
+                .limit(limit);
+
+        if (afterId != null) {
+            query.addCriteria(where("_id").gt(afterId));
+        }
+        return mongoTemplate.find(query, Assignment.class);
+    }
+}
@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveAssignmentRepository;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AssignmentReactiveMongoRepository extends ReactiveAssignmentRepository, ReactiveMongoRepository<Assignment, String> {
+}
@@ -6,5 +6,5 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CourseMongoRepository extends CourseRepository, MongoRepository<Course, String> {
+public interface CourseMongoRepository extends CourseRepository, CourseMongoRepositoryCustom, MongoRepository<Course, String> {
 }
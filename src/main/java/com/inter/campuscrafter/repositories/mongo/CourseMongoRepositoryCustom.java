@@ -0,0 +1,14 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Course;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface CourseMongoRepositoryCustom {
+    List<Course> findPage(String status, String teacherId, String after, int limit, Collection<String> fields);
+
+    Optional<Course> updateFields(String id, Long expectedVersion, Map<String, Object> fields);
+}
@@ -0,0 +1,45 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Course;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class CourseMongoRepositoryCustomImpl implements CourseMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Course> findPage(String status, String teacherId, String after, int limit, Collection<String> fields) {
+        Query query = new Query();
+
+        if (status != null) {
+            query.addCriteria(where("status").is(status));
+        }
+
+        if (teacherId != null) {
+            query.addCriteria(where("teacherId").is(teacherId));
+        }
+
+        if (after != null) {
+            query.addCriteria(where("id").gt(after));
+        }
+
+        fields.forEach(query.fields()::include);
+
+        return mongoTemplate.find(query.with(Sort.by("id")).limit(limit), Course.class);
+    }
+
+    @Override
+    public Optional<Course> updateFields(String id, Long expectedVersion, Map<String, Object> fields) {
+        return VersionedUpdate.updateFields(mongoTemplate, Course.class, id, expectedVersion, fields);
+    }
+}
@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveCourseRepository;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CourseReactiveMongoRepository extends ReactiveCourseRepository, ReactiveMongoRepository<Course, String> {
+}
@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.DeletionTask;
+import com.inter.campuscrafter.repositories.interfaces.DeletionTaskRepository;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeletionTaskMongoRepository extends DeletionTaskRepository, DeletionTaskMongoRepositoryCustom, MongoRepository<DeletionTask, String> {
+}
@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.DeletionTask;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface DeletionTaskMongoRepositoryCustom {
+    Optional<DeletionTask> claim(String id, LocalDateTime now, LocalDateTime leaseUntil);
+}
@@ -0,0 +1,37 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.DeletionStatus;
+import com.inter.campuscrafter.entities.DeletionTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class DeletionTaskMongoRepositoryCustomImpl implements DeletionTaskMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<DeletionTask> claim(String id, LocalDateTime now, LocalDateTime leaseUntil) {
+        Query query = Query.query(where("_id").is(id)
+                .and("status").in(List.of(DeletionStatus.PENDING, DeletionStatus.RUNNING))
+                .andOperator(
+                        new Criteria().orOperator(where("leaseUntil").is(null), where("leaseUntil").lte(now)),
+                        new Criteria().orOperator(where("nextAttemptAt").is(null), where("nextAttemptAt").lte(now))));
+        Update update = new Update()
+                .set("status", DeletionStatus.RUNNING)
+                .set("leaseUntil", leaseUntil)
+                .set("updatedAt", now);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), DeletionTask.class));
+    }
+}
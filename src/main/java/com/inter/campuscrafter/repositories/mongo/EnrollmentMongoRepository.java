@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Enrollment;
+import com.inter.campuscrafter.repositories.interfaces.EnrollmentRepository;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EnrollmentMongoRepository extends EnrollmentRepository, MongoRepository<Enrollment, String> {
+}
@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Enrollment;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveEnrollmentRepository;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EnrollmentReactiveMongoRepository extends ReactiveEnrollmentRepository, ReactiveMongoRepository<Enrollment, String> {
+}
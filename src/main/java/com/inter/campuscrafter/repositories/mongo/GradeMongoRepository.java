@@ -6,5 +6,5 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface GradeMongoRepository extends GradeRepository, MongoRepository<Grade, String> {
+public interface GradeMongoRepository extends GradeRepository, GradeMongoRepositoryCustom, MongoRepository<Grade, String> {
 }
@@ -0,0 +1,12 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Grade;
+
+import java.util.List;
+import java.util.Map;
+
+public interface GradeMongoRepositoryCustom {
+    Map<Integer, String> insertAll(List<Grade> grades);
+
+    Map<Integer, Long> countByScore(String assignmentId);
+}
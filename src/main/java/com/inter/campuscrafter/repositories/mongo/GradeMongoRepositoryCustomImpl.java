@@ -0,0 +1,54 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Grade;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class GradeMongoRepositoryCustomImpl implements GradeMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Map<Integer, String> insertAll(List<Grade> grades) {
+        if (grades.isEmpty()) {
+            return Map.of();
+        }
+
+        grades.stream()
+                .filter(grade -> grade.getId() == null)
+                .forEach(grade -> grade.setId(new ObjectId().toHexString()));
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Grade.class)
+                    .insert(grades)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException exception) {
+            return exception.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage));
+        }
+    }
+
+    // Grouped on the server over the assignment_score index, so only one document per distinct score comes back.
+    @Override
+    public Map<Integer, Long> countByScore(String assignmentId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where("assignmentId").is(assignmentId)),
+                Aggregation.group("score").count().as("count"));
+
+        return mongoTemplate.aggregate(aggregation, Grade.class, Document.class).getMappedResults().stream()
+                .collect(Collectors.toMap(result -> result.getInteger("_id"), result -> result.get("count", Number.class).longValue()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.GradeStatistics;
+import com.inter.campuscrafter.repositories.interfaces.GradeStatisticsRepository;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GradeStatisticsMongoRepository extends GradeStatisticsRepository, GradeStatisticsMongoRepositoryCustom,
+        MongoRepository<GradeStatistics, String> {
+}
@@ -0,0 +1,13 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.GradeStatistics;
+
+import java.util.Optional;
+
+public interface GradeStatisticsMongoRepositoryCustom {
+    void add(GradeStatistics statistics, double value, String bucket);
+
+    Optional<GradeStatistics> subtract(String id, double value, String bucket);
+
+    void updateRange(String id, Double min, Double max);
+}
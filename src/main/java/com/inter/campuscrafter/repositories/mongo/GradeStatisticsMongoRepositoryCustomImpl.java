@@ -0,0 +1,67 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.GradeStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class GradeStatisticsMongoRepositoryCustomImpl implements GradeStatisticsMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void add(GradeStatistics statistics, double value, String bucket) {
+        Update update = new Update()
+                .setOnInsert("scope", statistics.getScope())
+                .setOnInsert("courseId", statistics.getCourseId())
+                .setOnInsert("maxScore", statistics.getMaxScore())
+                .inc("count", 1)
+                .inc("sum", value)
+                .inc("sumOfSquares", value * value)
+                .inc("histogram." + bucket, 1)
+                .min("min", value)
+                .max("max", value);
+
+        mongoTemplate.upsert(byId(statistics.getId()), update, GradeStatistics.class);
+    }
+
+    @Override
+    public Optional<GradeStatistics> subtract(String id, double value, String bucket) {
+        Update update = new Update()
+                .inc("count", -1)
+                .inc("sum", -value)
+                .inc("sumOfSquares", -value * value)
+                .inc("histogram." + bucket, -1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(byId(id), update,
+                FindAndModifyOptions.options().returnNew(true), GradeStatistics.class));
+    }
+
+    // An empty range is unset rather than set to null: null sorts below every number, so $min in add() would keep it.
+    @Override
+    public void updateRange(String id, Double min, Double max) {
+        Update update = new Update();
+        setOrUnset(update, "min", min);
+        setOrUnset(update, "max", max);
+
+        mongoTemplate.updateFirst(byId(id), update, GradeStatistics.class);
+    }
+
+    private static void setOrUnset(Update update, String field, Double value) {
+        if (value == null) {
+            update.unset(field);
+        } else {
+            update.set(field, value);
+        }
+    }
+
+    private Query byId(String id) {
+        return Query.query(where("_id").is(id));
+    }
+}
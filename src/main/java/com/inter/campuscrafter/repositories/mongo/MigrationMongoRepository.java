@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Migration;
+import com.inter.campuscrafter.repositories.interfaces.MigrationRepository;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MigrationMongoRepository extends MigrationRepository, MongoRepository<Migration, String> {
+}
@@ -0,0 +1,10 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Transcript;
+import com.inter.campuscrafter.repositories.interfaces.TranscriptRepository;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TranscriptMongoRepository extends TranscriptRepository, MongoRepository<Transcript, String> {
+}
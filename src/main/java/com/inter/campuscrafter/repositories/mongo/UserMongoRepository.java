@@ -6,5 +6,5 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserMongoRepository extends UserRepository, MongoRepository<User, String> {
+public interface UserMongoRepository extends UserRepository, UserMongoRepositoryCustom, MongoRepository<User, String> {
 }
@@ -0,0 +1,16 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Student;
+import com.inter.campuscrafter.entities.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface UserMongoRepositoryCustom {
+    void updateLastLogins(Map<String, LocalDateTime> lastLogins);
+    void updatePassword(String id, String password);
+    Optional<User> updateFields(String id, Long expectedVersion, Map<String, Object> fields);
+    List<Student> findStudentsWithCourseIds(String afterId, int limit);
+}
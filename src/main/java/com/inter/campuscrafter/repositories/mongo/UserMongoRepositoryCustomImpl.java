@@ -0,0 +1,60 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Student;
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.entities.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class UserMongoRepositoryCustomImpl implements UserMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void updateLastLogins(Map<String, LocalDateTime> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        lastLogins.forEach((userId, lastLogin) ->
+                bulkOperations.updateOne(Query.query(where("_id").is(userId)), Update.update("lastLogin", lastLogin)));
+        bulkOperations.execute();
+    }
+
+    @Override
+    public void updatePassword(String id, String password) {
+        mongoTemplate.updateFirst(Query.query(where("_id").is(id)), Update.update("password", password), User.class);
+    }
+
+    @Override
+    public Optional<User> updateFields(String id, Long expectedVersion, Map<String, Object> fields) {
+        return VersionedUpdate.updateFields(mongoTemplate, User.class, id, expectedVersion, fields);
+    }
+
+    @Override
+    public List<Student> findStudentsWithCourseIds(String afterId, int limit) {
+        Query query = Query.query(where("userRole").is(UserRole.STUDENT).and("courseIds.0").exists(true))
+                .with(Sort.by("_id"))
+                .limit(limit);
+
+        if (afterId != null) {
+            query.addCriteria(where("_id").gt(afterId));
+        }
+        return mongoTemplate.find(query, User.class).stream()
+                .filter(Student.class::isInstance)
+                .map(Student.class::cast)
+                .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.exceptions.VersionConflictException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+final class VersionedUpdate {
+    private VersionedUpdate() {
+    }
+
+    // One findAndModify that $sets only the given fields and bumps the version. The existence check that tells a
+    // stale version from a missing document only runs when nothing matched.
+    static <T> Optional<T> updateFields(MongoTemplate mongoTemplate, Class<T> entityType, String id,
+                                        Long expectedVersion, Map<String, Object> fields) {
+        Query query = Query.query(where("_id").is(id));
+
+        if (expectedVersion != null) {
+            query.addCriteria(versionIs(expectedVersion));
+        }
+
+        Update update = new Update().inc("version", 1);
+        fields.forEach(update::set);
+
+        T updated = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), entityType);
+
+        if (updated != null) {
+            return Optional.of(updated);
+        }
+
+        if (expectedVersion != null && mongoTemplate.exists(Query.query(where("_id").is(id)), entityType)) {
+            throw new VersionConflictException(id, expectedVersion);
+        }
+        return Optional.empty();
+    }
+
+    // Documents written before versioning have no version field and count as version 0.
+    private static Criteria versionIs(long version) {
+        if (version == 0) {
+            return new Criteria().orOperator(where("version").is(0L), where("version").exists(false));
+        }
+        return where("version").is(version);
+    }
+}
@@ -0,0 +1,23 @@
+package com.inter.campuscrafter.responses;
+
+import com.inter.campuscrafter.dtos.GradeDto;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+@Data
+@Accessors(chain = true)
+public class BulkGradeResponse {
+    private int created;
+    private int failed;
+    private List<Item> results;
+
+    @Data
+    @Accessors(chain = true)
+    public static class Item {
+        private int index;
+        private GradeDto grade;
+        private List<String> errors;
+    }
+}
@@ -0,0 +1,30 @@
+package com.inter.campuscrafter.responses;
+
+import com.inter.campuscrafter.entities.StatisticsScope;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+@Data
+@Accessors(chain = true)
+public class GradeStatisticsResponse {
+    private StatisticsScope scope;
+    private String id;
+    private long count;
+    private Double mean;
+    private Double median;
+    private Double standardDeviation;
+    private Double min;
+    private Double max;
+    private Double completionRate;
+    private List<Bucket> histogram;
+
+    @Data
+    @Accessors(chain = true)
+    public static class Bucket {
+        private double from;
+        private double to;
+        private long count;
+    }
+}
@@ -0,0 +1,13 @@
+package com.inter.campuscrafter.responses;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+@Data
+@Accessors(chain = true)
+public class PageResponse<T> {
+    private List<T> items;
+    private String next;
+}
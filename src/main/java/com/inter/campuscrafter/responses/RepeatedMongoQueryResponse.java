@@ -0,0 +1,16 @@
+package com.inter.campuscrafter.responses;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.Instant;
+
+@Data
+@Accessors(chain = true)
+public class RepeatedMongoQueryResponse {
+    private Instant timestamp;
+    private String requestId;
+    private String request;
+    private String shape;
+    private int count;
+}
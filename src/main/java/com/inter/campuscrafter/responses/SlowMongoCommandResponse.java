@@ -0,0 +1,21 @@
+package com.inter.campuscrafter.responses;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.Instant;
+
+@Data
+@Accessors(chain = true)
+public class SlowMongoCommandResponse {
+    private Instant timestamp;
+    private String requestId;
+    private String request;
+    private String collection;
+    private String command;
+    private String shape;
+    private double durationMillis;
+    private Long documentsReturned;
+    private Long documentsExamined;
+    private Long keysExamined;
+}
@@ -1,13 +1,19 @@
 package com.inter.campuscrafter.services;
 
 import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.exceptions.VersionConflictException;
 import com.inter.campuscrafter.repositories.interfaces.AssignmentRepository;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveAssignmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Validated
@@ -15,45 +21,81 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AssignmentService {
     private final AssignmentRepository assignmentRepository;
+    private final ReactiveAssignmentRepository reactiveAssignmentRepository;
+    private final EntityCache<Assignment> assignmentCache;
 
     public List<Assignment> getAllAssignmentsByCourseId(String courseId) {
         return assignmentRepository.findAllByCourseId(courseId);
     }
 
+    public Flux<Assignment> streamAllAssignmentsByCourseId(String courseId) {
+        return reactiveAssignmentRepository.findAllByCourseId(courseId);
+    }
+
     public Assignment createAssignmentsByCourseId(String courseId, Assignment assignment) {
         assignment.setCourseId(courseId);
         assignment.setPostedDate(LocalDateTime.now());
-        return assignmentRepository.save(assignment);
+        return saveAssignment(assignment);
     }
 
     public Assignment updateAssignmentById(String id, Assignment updatedAssignment) {
-        Optional<Assignment> assignmentById = assignmentRepository.findById(id);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", updatedAssignment.getTitle());
+        fields.put("content", updatedAssignment.getContent());
+        fields.put("dueDate", updatedAssignment.getDueDate());
+        fields.put("maxScore", updatedAssignment.getMaxScore());
+        fields.put("submissionFormat", updatedAssignment.getSubmissionFormat());
 
-        return assignmentById.map(assignment -> {
-            assignment.setTitle(updatedAssignment.getTitle());
-            assignment.setContent(updatedAssignment.getContent());
-            assignment.setDueDate(updatedAssignment.getDueDate());
-            assignment.setMaxScore(updatedAssignment.getMaxScore());
-            assignment.setSubmissionFormat(updatedAssignment.getSubmissionFormat());
+        return patchAssignment(id, null, fields);
+    }
 
-            return assignmentRepository.save(assignment);
-        }).orElse(null);
+    public Assignment patchAssignment(String id, Long expectedVersion, Map<String, Object> fields) {
+        try {
+            Optional<Assignment> updatedAssignment = assignmentRepository.updateFields(id, expectedVersion, fields);
+            updatedAssignment.ifPresent(assignment -> assignmentCache.put(id, assignment));
+            return updatedAssignment.orElse(null);
+        } catch (VersionConflictException exception) {
+            assignmentCache.invalidate(id);
+            throw exception;
+        }
     }
 
     public void deleteAssignmentById(String id) {
         assignmentRepository.deleteById(id);
+        assignmentCache.invalidate(id);
+    }
+
+    public List<String> findAssignmentIds(String courseId, int limit) {
+        return assignmentRepository.findByCourseId(courseId, PageRequest.of(0, limit)).stream()
+                .map(Assignment::getId)
+                .toList();
     }
 
-    public void deleteAllByCourseId(String courseId) {
-        assignmentRepository.deleteAllByCourseId(courseId);
+    public int deleteAssignments(List<String> ids) {
+        assignmentRepository.deleteAllById(ids);
+        assignmentCache.invalidateAll(ids);
+        return ids.size();
     }
 
+    public long countAssignments(String courseId) {
+        return assignmentRepository.countByCourseId(courseId);
+    }
 
     public boolean assignmentExists(String assignmentId) {
-        return assignmentRepository.findById(assignmentId).isPresent();
+        return findAssignment(assignmentId).isPresent();
     }
 
     public Assignment getAssignmentById(String assignmentId) {
-        return assignmentRepository.findById(assignmentId).orElse(null);
+        return findAssignment(assignmentId).orElse(null);
+    }
+
+    private Optional<Assignment> findAssignment(String id) {
+        return Optional.ofNullable(assignmentCache.get(id, key -> assignmentRepository.findById(key).orElse(null)));
+    }
+
+    private Assignment saveAssignment(Assignment assignment) {
+        Assignment savedAssignment = assignmentRepository.save(assignment);
+        assignmentCache.put(savedAssignment.getId(), savedAssignment);
+        return savedAssignment;
     }
 }
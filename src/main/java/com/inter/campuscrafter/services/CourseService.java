@@ -1,22 +1,36 @@
 package com.inter.campuscrafter.services;
 
 import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.entities.DeletionTarget;
+import com.inter.campuscrafter.entities.DeletionTask;
 import com.inter.campuscrafter.entities.User;
 import com.inter.campuscrafter.entities.UserRole;
+import com.inter.campuscrafter.exceptions.CourseNotFoundException;
+import com.inter.campuscrafter.exceptions.VersionConflictException;
 import com.inter.campuscrafter.repositories.interfaces.CourseRepository;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveCourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Validated
 @Service
 @RequiredArgsConstructor
 public class CourseService {
+    private static final List<String> SUMMARY_FIELDS = List.of("title", "teacherId", "startDate", "status");
+
     private final CourseRepository courseRepository;
+    private final ReactiveCourseRepository reactiveCourseRepository;
+    private final DeletionService deletionService;
+    private final EntityCache<Course> courseCache;
 
     public List<Course> getAllCourses(Optional<String> status, Optional<String> teacherId) {
         if (status.isPresent() && teacherId.isPresent()) {
@@ -35,60 +49,116 @@ public class CourseService {
 
     }
 
+    public Flux<Course> streamAllCourses(Optional<String> status, Optional<String> teacherId) {
+        if (status.isPresent() && teacherId.isPresent()) {
+            return reactiveCourseRepository.findAllByStatusAndTeacherId(status.get(), teacherId.get());
+        }
+
+        if (status.isPresent()) {
+            return reactiveCourseRepository.findAllByStatus(status.get());
+        }
+
+        if (teacherId.isPresent()) {
+            return reactiveCourseRepository.findAllByTeacherId(teacherId.get());
+        }
+
+        return reactiveCourseRepository.findAll();
+    }
+
+    public List<Course> getCoursePage(Optional<String> status, Optional<String> teacherId,
+                                      String after, int limit, boolean summary) {
+        return courseRepository.findPage(status.orElse(null), teacherId.orElse(null), after, limit,
+                summary ? SUMMARY_FIELDS : List.of());
+    }
+
     public Course getCourseById(String id) {
-        Optional<Course> allCourses = courseRepository.findById(id);
-        return allCourses.orElse(null);
+        return findCourse(id).orElse(null);
+    }
+
+    public Mono<Course> findCourseById(String id) {
+        Course cachedCourse = courseCache.getIfPresent(id);
+        return cachedCourse != null ? Mono.just(cachedCourse) : reactiveCourseRepository.findById(id);
     }
 
     public Course createCourse(Course course, User user) {
         if (user.hasRole(UserRole.TEACHER)) {
             course.setTeacherId(user.getId());
         }
-        return courseRepository.save(course);
+        return saveCourse(course);
     }
 
     public Course updateCourseById(String id, Course updatedCourse, User user) {
-        Optional<Course> courseById = courseRepository.findById(id);
+        isAuthorized(updatedCourse, user, "Not authorized to update this course.");
+
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", updatedCourse.getTitle());
+        fields.put("description", updatedCourse.getDescription());
+        fields.put("teacherId", updatedCourse.getTeacherId());
+        fields.put("startDate", updatedCourse.getStartDate());
+        fields.put("credits", updatedCourse.getCredits());
+        fields.put("enrollmentLimit", updatedCourse.getEnrollmentLimit());
+        fields.put("status", updatedCourse.getStatus());
+
+        return updateCourseFields(id, null, fields).orElse(null);
+    }
 
-        return courseById.map(course -> {
-                    isAuthorized(updatedCourse, user, "Not authorized to update this course.");
+    public Course patchCourse(String id, Long expectedVersion, Map<String, Object> fields, User user) {
+        Course course = findCourse(id)
+                .orElseThrow(() -> new CourseNotFoundException("Course " + id + " not found"));
+        isAuthorized(course, user, "Not authorized to update this course.");
 
-                    course.setTitle(updatedCourse.getTitle());
-                    course.setDescription(updatedCourse.getDescription());
-                    course.setTeacherId(updatedCourse.getTeacherId());
-                    course.setStartDate(updatedCourse.getStartDate());
-                    course.setCredits(updatedCourse.getCredits());
-                    course.setEnrollmentLimit(updatedCourse.getEnrollmentLimit());
-                    course.setStatus(updatedCourse.getStatus());
+        if (fields.get("teacherId") instanceof String teacherId) {
+            checkTeacher(teacherId, user, "Not authorized to assign this course to another teacher.");
+        }
 
-                    return courseRepository.save(course);
-                }
-        ).orElse(null);
+        return updateCourseFields(id, expectedVersion, fields)
+                .orElseThrow(() -> new CourseNotFoundException("Course " + id + " not found"));
     }
 
-    void isAuthorized(Course updatedCourse, User user, String message) {
-        if (!updatedCourse.getTeacherId().equals(user.getId()) && !user.hasRole(UserRole.ADMIN)) {
-            throw new AccessDeniedException(message);
-        }
+    public void isAuthorized(Course updatedCourse, User user, String message) {
+        checkTeacher(updatedCourse.getTeacherId(), user, message);
     }
 
     public void isAuthorized(String courseId, User user, String message) {
-        courseRepository.findById(courseId).ifPresent(updatedCourse -> {
-            if (!updatedCourse.getTeacherId().equals(user.getId()) && !user.hasRole(UserRole.ADMIN)) {
-                throw new AccessDeniedException(message);
-            }
-        });
+        findCourse(courseId).ifPresent(course -> isAuthorized(course, user, message));
+    }
+
+    private void checkTeacher(String teacherId, User user, String message) {
+        if (!teacherId.equals(user.getId()) && !user.hasRole(UserRole.ADMIN)) {
+            throw new AccessDeniedException(message);
+        }
     }
 
-    public void deleteCourse(String id, User user) {
-        Optional<Course> courseById = courseRepository.findById(id);
-        courseById.ifPresent(course -> {
-            isAuthorized(course, user, "Not authorized to update this course.");
-            courseRepository.deleteById(id);
-        });
+    public DeletionTask deleteCourse(String id, User user) {
+        Course course = findCourse(id)
+                .orElseThrow(() -> new CourseNotFoundException("Course " + id + " not found"));
+        isAuthorized(course, user, "Not authorized to delete this course.");
+
+        return deletionService.submit(DeletionTarget.COURSE, id);
     }
 
     public boolean courseExists(String courseId) {
-        return courseRepository.findById(courseId).isPresent();
+        return findCourse(courseId).isPresent();
+    }
+
+    private Optional<Course> findCourse(String id) {
+        return Optional.ofNullable(courseCache.get(id, key -> courseRepository.findById(key).orElse(null)));
+    }
+
+    private Optional<Course> updateCourseFields(String id, Long expectedVersion, Map<String, Object> fields) {
+        try {
+            Optional<Course> updatedCourse = courseRepository.updateFields(id, expectedVersion, fields);
+            updatedCourse.ifPresent(course -> courseCache.put(id, course));
+            return updatedCourse;
+        } catch (VersionConflictException exception) {
+            courseCache.invalidate(id);
+            throw exception;
+        }
+    }
+
+    private Course saveCourse(Course course) {
+        Course savedCourse = courseRepository.save(course);
+        courseCache.put(savedCourse.getId(), savedCourse);
+        return savedCourse;
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.entities.DeletionStatus;
+import com.inter.campuscrafter.entities.DeletionTarget;
+import com.inter.campuscrafter.entities.DeletionTask;
+import com.inter.campuscrafter.exceptions.DeletionTaskNotFoundException;
+import com.inter.campuscrafter.repositories.interfaces.DeletionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class DeletionService {
+    private final DeletionTaskRepository deletionTaskRepository;
+    private final DeletionWorker deletionWorker;
+
+    // The task is saved already claimed by this request, so the worker leaves it alone while the root step runs
+    // here. If this instance dies before releasing it, the lease runs out and the worker takes over.
+    public DeletionTask submit(DeletionTarget targetType, String targetId) {
+        DeletionTask task = new DeletionTask(targetType, targetId);
+        task.setStatus(DeletionStatus.RUNNING);
+        task.setLeaseUntil(LocalDateTime.now().plus(deletionWorker.getLease()));
+
+        return deletionWorker.tombstone(deletionTaskRepository.save(task));
+    }
+
+    public DeletionTask getTask(String id) {
+        return deletionTaskRepository.findById(id)
+                .orElseThrow(() -> new DeletionTaskNotFoundException("Deletion task " + id + " not found"));
+    }
+}
@@ -0,0 +1,235 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.entities.DeletionStatus;
+import com.inter.campuscrafter.entities.DeletionStep;
+import com.inter.campuscrafter.entities.DeletionTarget;
+import com.inter.campuscrafter.entities.DeletionTask;
+import com.inter.campuscrafter.repositories.interfaces.CourseRepository;
+import com.inter.campuscrafter.repositories.interfaces.DeletionTaskRepository;
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class DeletionWorker {
+    private static final List<DeletionStatus> OPEN_STATUSES = List.of(DeletionStatus.RUNNING, DeletionStatus.PENDING);
+
+    private final DeletionTaskRepository deletionTaskRepository;
+    private final CourseRepository courseRepository;
+    private final EntityCache<Course> courseCache;
+    private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final AssignmentService assignmentService;
+    private final GradeService gradeService;
+    private final EnrollmentService enrollmentService;
+    private final GradeStatisticsService gradeStatisticsService;
+    private final TranscriptService transcriptService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deletion-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DeletionWorker(DeletionTaskRepository deletionTaskRepository,
+                          CourseRepository courseRepository,
+                          EntityCache<Course> courseCache,
+                          UserRepository userRepository,
+                          TokenRevocationService tokenRevocationService,
+                          AssignmentService assignmentService,
+                          GradeService gradeService,
+                          EnrollmentService enrollmentService,
+                          GradeStatisticsService gradeStatisticsService,
+                          TranscriptService transcriptService,
+                          @Value("${deletion.batch-size}") int batchSize,
+                          @Value("${deletion.max-attempts}") int maxAttempts,
+                          @Value("${deletion.retry-backoff}") Duration retryBackoff,
+                          @Value("${deletion.poll-interval}") Duration pollInterval,
+                          @Value("${deletion.lease}") Duration lease) {
+        this.deletionTaskRepository = deletionTaskRepository;
+        this.courseRepository = courseRepository;
+        this.courseCache = courseCache;
+        this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.assignmentService = assignmentService;
+        this.gradeService = gradeService;
+        this.enrollmentService = enrollmentService;
+        this.gradeStatisticsService = gradeStatisticsService;
+        this.transcriptService = transcriptService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::processOpenTasks, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // Runs the root step of a task the caller has claimed on the caller's thread, so the entity usually disappears
+    // before the request returns. The rest of the cascade, and a root step that failed here, are left to the worker,
+    // so the request is accepted either way.
+    public DeletionTask tombstone(DeletionTask task) {
+        try {
+            runBatch(task);
+            task.setStep(task.getTargetType().nextStep(task.getStep()));
+            task.setStatus(DeletionStatus.PENDING);
+            task.setLeaseUntil(null);
+            save(task);
+        } catch (RuntimeException exception) {
+            fail(task, exception);
+        }
+
+        executor.execute(this::processOpenTasks);
+        return task;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    void processOpenTasks() {
+        try {
+            for (DeletionTask task : deletionTaskRepository.findAllByStatusIn(OPEN_STATUSES)) {
+                LocalDateTime now = LocalDateTime.now();
+
+                if (isDue(task, now)) {
+                    deletionTaskRepository.claim(task.getId(), now, now.plus(lease)).ifPresent(this::process);
+                }
+            }
+        } catch (RuntimeException exception) {
+            log.error("Could not load open deletion tasks", exception);
+        }
+    }
+
+    private static boolean isDue(DeletionTask task, LocalDateTime now) {
+        return (task.getNextAttemptAt() == null || !task.getNextAttemptAt().isAfter(now))
+                && (task.getLeaseUntil() == null || !task.getLeaseUntil().isAfter(now));
+    }
+
+    // Every batch renews the lease, so a claim only lapses when the instance holding it stops making progress.
+    private void process(DeletionTask task) {
+        try {
+            while (task.getStep() != null) {
+                int deleted = runBatch(task);
+
+                if (deleted == 0) {
+                    task.setStep(task.getTargetType().nextStep(task.getStep()));
+                } else {
+                    task.setDeletedCount(task.getDeletedCount() + deleted);
+                }
+                task.setLeaseUntil(LocalDateTime.now().plus(lease));
+                save(task);
+            }
+
+            task.setStatus(DeletionStatus.COMPLETED);
+            task.setLastError(null);
+            task.setLeaseUntil(null);
+            save(task);
+            log.info("Deleted {} {} and {} dependent documents", task.getTargetType(), task.getTargetId(),
+                    task.getDeletedCount());
+        } catch (RuntimeException exception) {
+            fail(task, exception);
+        }
+    }
+
+    private int runBatch(DeletionTask task) {
+        String targetId = task.getTargetId();
+
+        return switch (task.getStep()) {
+            case ROOT -> {
+                deleteRoot(task.getTargetType(), targetId);
+                yield 0;
+            }
+            case ASSIGNMENTS -> deleteAssignmentBatch(targetId);
+            case GRADES -> gradeService.deleteGradeBatchByStudentId(targetId, batchSize);
+            case ENROLLMENTS -> task.getTargetType() == DeletionTarget.COURSE
+                    ? enrollmentService.deleteBatchByCourseId(targetId, batchSize)
+                    : enrollmentService.deleteBatchByStudentId(targetId, batchSize);
+        };
+    }
+
+    private void deleteRoot(DeletionTarget targetType, String targetId) {
+        if (targetType == DeletionTarget.COURSE) {
+            courseRepository.deleteById(targetId);
+            courseCache.invalidate(targetId);
+            gradeStatisticsService.deleteCourseStatistics(targetId);
+        } else {
+            userRepository.deleteById(targetId);
+            tokenRevocationService.revokeAll(targetId);
+            transcriptService.deleteTranscript(targetId);
+        }
+    }
+
+    // Grades go before the assignments they belong to, so a crash never leaves grades without an assignment
+    // that the next attempt could find them through.
+    private int deleteAssignmentBatch(String courseId) {
+        List<String> assignmentIds = assignmentService.findAssignmentIds(courseId, batchSize);
+
+        if (assignmentIds.isEmpty()) {
+            return 0;
+        }
+
+        int deletedGrades = gradeService.deleteGradeBatchByAssignmentIds(assignmentIds, batchSize);
+
+        if (deletedGrades > 0) {
+            return deletedGrades;
+        }
+
+        gradeStatisticsService.deleteAssignmentStatistics(assignmentIds);
+        return assignmentService.deleteAssignments(assignmentIds);
+    }
+
+    private void fail(DeletionTask task, RuntimeException exception) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(exception.getMessage());
+        task.setLeaseUntil(null);
+
+        if (task.getAttempts() >= maxAttempts) {
+            task.setStatus(DeletionStatus.FAILED);
+            log.error("Giving up on deleting {} {} after {} attempts", task.getTargetType(), task.getTargetId(),
+                    task.getAttempts(), exception);
+        } else {
+            Duration backoff = retryBackoff.multipliedBy(1L << Math.min(task.getAttempts() - 1, 10));
+            task.setStatus(DeletionStatus.PENDING);
+            task.setNextAttemptAt(LocalDateTime.now().plus(backoff));
+            log.warn("Deleting {} {} failed at step {}, retrying in {}", task.getTargetType(), task.getTargetId(),
+                    task.getStep(), backoff, exception);
+        }
+
+        try {
+            save(task);
+        } catch (RuntimeException saveException) {
+            log.error("Could not record the failure of deletion task {}", task.getId(), saveException);
+        }
+    }
+
+    private DeletionTask save(DeletionTask task) {
+        task.setUpdatedAt(LocalDateTime.now());
+        return deletionTaskRepository.save(task);
+    }
+}
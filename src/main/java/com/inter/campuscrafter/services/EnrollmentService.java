@@ -0,0 +1,122 @@
+package com.inter.campuscrafter.services;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.inter.campuscrafter.entities.Enrollment;
+import com.inter.campuscrafter.repositories.interfaces.EnrollmentRepository;
+import com.inter.campuscrafter.repositories.interfaces.ReactiveEnrollmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EnrollmentService {
+    private final EnrollmentRepository enrollmentRepository;
+    private final ReactiveEnrollmentRepository reactiveEnrollmentRepository;
+    private final LoadingCache<String, Set<String>> courseIdsByStudent;
+
+    public EnrollmentService(EnrollmentRepository enrollmentRepository,
+                             ReactiveEnrollmentRepository reactiveEnrollmentRepository,
+                             @Value("${cache.enrollments.max-size}") long maxSize,
+                             MeterRegistry meterRegistry) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.reactiveEnrollmentRepository = reactiveEnrollmentRepository;
+        this.courseIdsByStudent = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(this::loadCourseIds);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, courseIdsByStudent, "enrollments");
+    }
+
+    public boolean isEnrolled(String studentId, String courseId) {
+        return courseIdsByStudent.get(studentId).contains(courseId);
+    }
+
+    public Mono<Boolean> checkEnrolled(String studentId, String courseId) {
+        Set<String> cachedCourseIds = courseIdsByStudent.getIfPresent(studentId);
+
+        if (cachedCourseIds != null) {
+            return Mono.just(cachedCourseIds.contains(courseId));
+        }
+        return reactiveEnrollmentRepository.existsByStudentIdAndCourseId(studentId, courseId);
+    }
+
+    public boolean isEnrolledInAny(String studentId, Collection<String> courseIds) {
+        Set<String> enrolledCourseIds = courseIdsByStudent.get(studentId);
+        return courseIds.stream().anyMatch(enrolledCourseIds::contains);
+    }
+
+    public boolean enroll(String studentId, String courseId) {
+        if (enrollmentRepository.existsByStudentIdAndCourseId(studentId, courseId)) {
+            return false;
+        }
+
+        enrollmentRepository.save(new Enrollment(studentId, courseId));
+        courseIdsByStudent.invalidate(studentId);
+        return true;
+    }
+
+    // Enrolls every student in the given courses with one read and one batch insert, skipping existing enrollments.
+    public int enrollAll(Map<String, ? extends Collection<String>> courseIdsByStudentId) {
+        Set<String> existing = enrollmentRepository.findAllByStudentIdIn(courseIdsByStudentId.keySet()).stream()
+                .map(enrollment -> enrollment.getStudentId() + "/" + enrollment.getCourseId())
+                .collect(Collectors.toSet());
+        List<Enrollment> enrollments = new ArrayList<>();
+
+        courseIdsByStudentId.forEach((studentId, courseIds) -> courseIds.stream()
+                .distinct()
+                .filter(courseId -> !existing.contains(studentId + "/" + courseId))
+                .forEach(courseId -> enrollments.add(new Enrollment(studentId, courseId))));
+
+        int created;
+
+        try {
+            enrollmentRepository.saveAll(enrollments);
+            created = enrollments.size();
+        } catch (DuplicateKeyException exception) {
+            // Someone enrolled one of these students meanwhile; the single path skips whatever now exists.
+            created = (int) enrollments.stream()
+                    .filter(enrollment -> enroll(enrollment.getStudentId(), enrollment.getCourseId()))
+                    .count();
+        }
+
+        courseIdsByStudent.invalidateAll(courseIdsByStudentId.keySet());
+        return created;
+    }
+
+    public long countEnrollments(String courseId) {
+        return enrollmentRepository.countByCourseId(courseId);
+    }
+
+    public int deleteBatchByStudentId(String studentId, int batchSize) {
+        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId, PageRequest.of(0, batchSize));
+        enrollmentRepository.deleteAllById(enrollments.stream().map(Enrollment::getId).toList());
+        courseIdsByStudent.invalidate(studentId);
+        return enrollments.size();
+    }
+
+    public int deleteBatchByCourseId(String courseId, int batchSize) {
+        List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId, PageRequest.of(0, batchSize));
+        enrollmentRepository.deleteAllById(enrollments.stream().map(Enrollment::getId).toList());
+        courseIdsByStudent.invalidateAll(enrollments.stream().map(Enrollment::getStudentId).toList());
+        return enrollments.size();
+    }
+
+    private Set<String> loadCourseIds(String studentId) {
+        return enrollmentRepository.findAllByStudentId(studentId).stream()
+                .map(enrollment -> enrollment.getCourseId().intern())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,42 @@
+package com.inter.campuscrafter.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+// Entities are mutable, so the cache keeps its own copy of every value and hands out copies: a caller changing
+// what it got back, or what it just saved, can never change what the next request reads.
+public class EntityCache<T> {
+    private final Cache<String, T> cache;
+    private final UnaryOperator<T> copier;
+
+    public EntityCache(Cache<String, T> cache, UnaryOperator<T> copier) {
+        this.cache = cache;
+        this.copier = copier;
+    }
+
+    public T get(String id, Function<String, T> loader) {
+        return copy(cache.get(id, loader));
+    }
+
+    public T getIfPresent(String id) {
+        return copy(cache.getIfPresent(id));
+    }
+
+    public void put(String id, T entity) {
+        cache.put(id, copier.apply(entity));
+    }
+
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Iterable<String> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    private T copy(T entity) {
+        return entity == null ? null : copier.apply(entity);
+    }
+}
@@ -3,29 +3,104 @@ package com.inter.campuscrafter.services;
 import com.inter.campuscrafter.entities.Grade;
 import com.inter.campuscrafter.repositories.interfaces.GradeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Validated
 @Service
 @RequiredArgsConstructor
 public class GradeService {
     private final GradeRepository gradeRepository;
+    private final GradeStatisticsService gradeStatisticsService;
+    private final TranscriptService transcriptService;
 
+    // A grade sent with the id of an existing one replaces it, so the replaced score leaves the statistics
+    // and the transcript of its student is rebuilt as well.
     public Grade createGrade(Grade grade, String assignmentId) {
         grade.setAssignmentId(assignmentId);
         grade.setSubmissionDate(LocalDateTime.now());
-        return gradeRepository.save(grade);
+        Optional<Grade> previousGrade = grade.getId() == null ? Optional.empty() : gradeRepository.findById(grade.getId());
+
+        Grade savedGrade = gradeStatisticsService.recordWrite(assignmentId, () -> {
+            Grade saved = gradeRepository.save(grade);
+            previousGrade.ifPresent(gradeStatisticsService::recordRemoved);
+            gradeStatisticsService.recordAdded(saved);
+            return saved;
+        });
+
+        transcriptService.refresh(savedGrade.getStudentId());
+        previousGrade.map(Grade::getStudentId)
+                .filter(studentId -> !studentId.equals(savedGrade.getStudentId()))
+                .ifPresent(transcriptService::refresh);
+        return savedGrade;
+    }
+
+    public Map<Integer, String> createGrades(List<Grade> grades, String assignmentId) {
+        LocalDateTime submissionDate = LocalDateTime.now();
+        grades.forEach(grade -> {
+            grade.setAssignmentId(assignmentId);
+            grade.setSubmissionDate(submissionDate);
+        });
+        Map<Integer, String> failures = gradeStatisticsService.recordWrite(assignmentId, () -> {
+            Map<Integer, String> rejected = gradeRepository.insertAll(grades);
+
+            for (int i = 0; i < grades.size(); i++) {
+                if (!rejected.containsKey(i)) {
+                    gradeStatisticsService.recordAdded(grades.get(i));
+                }
+            }
+            return rejected;
+        });
+        Set<String> studentIds = new LinkedHashSet<>();
+
+        for (int i = 0; i < grades.size(); i++) {
+            if (!failures.containsKey(i)) {
+                studentIds.add(grades.get(i).getStudentId());
+            }
+        }
+
+        transcriptService.refreshAll(studentIds);
+        return failures;
     }
 
     public List<Grade> getGrades(String studentId) {
         return gradeRepository.findByStudentId(studentId);
     }
 
-    public void deleteGradesByStudentId(String studentId) {
-        gradeRepository.deleteAllByStudentId(studentId);
+    public List<Grade> getGrades(String studentId, int page, int size) {
+        return gradeRepository.findByStudentId(studentId, PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    public Stream<Grade> streamGrades(String studentId) {
+        return gradeRepository.streamAllByStudentId(studentId);
+    }
+
+    public int deleteGradeBatchByStudentId(String studentId, int batchSize) {
+        return deleteGrades(gradeRepository.findByStudentId(studentId, PageRequest.of(0, batchSize)));
+    }
+
+    public int deleteGradeBatchByAssignmentIds(Collection<String> assignmentIds, int batchSize) {
+        return deleteGrades(gradeRepository.findByAssignmentIdIn(assignmentIds, PageRequest.of(0, batchSize)));
+    }
+
+    // The statistics are rebuilt from the grades that remain rather than decremented, so a grade that another
+    // deletion removed at the same time is not subtracted twice.
+    private int deleteGrades(List<Grade> grades) {
+        gradeRepository.deleteAllById(grades.stream().map(Grade::getId).toList());
+        gradeStatisticsService.recompute(grades.stream().map(Grade::getAssignmentId).collect(Collectors.toSet()));
+        transcriptService.refreshAll(grades.stream().map(Grade::getStudentId).collect(Collectors.toSet()));
+        return grades.size();
     }
 }
@@ -0,0 +1,325 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.entities.Grade;
+import com.inter.campuscrafter.entities.GradeStatistics;
+import com.inter.campuscrafter.entities.StatisticsScope;
+import com.inter.campuscrafter.repositories.interfaces.GradeRepository;
+import com.inter.campuscrafter.repositories.interfaces.GradeStatisticsRepository;
+import com.inter.campuscrafter.responses.GradeStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+public class GradeStatisticsService {
+    private static final int BUCKET_WIDTH = 10;
+    private static final int BUCKETS = 100 / BUCKET_WIDTH;
+    private static final int LOCK_STRIPES = 64;
+
+    private final GradeStatisticsRepository gradeStatisticsRepository;
+    private final GradeRepository gradeRepository;
+    private final AssignmentService assignmentService;
+    private final EnrollmentService enrollmentService;
+    // Grade writes take the read side of their course's stripe and only exclude a recompute of that course, which
+    // would otherwise count a grade that is saved but not yet recorded and then see it recorded on top.
+    private final ReadWriteLock[] locks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(stripe -> new ReentrantReadWriteLock())
+            .toArray(ReadWriteLock[]::new);
+
+    // Runs a write of grades of the assignment together with the matching record calls.
+    public <T> T recordWrite(String assignmentId, Supplier<T> write) {
+        Assignment assignment = assignmentService.getAssignmentById(assignmentId);
+
+        if (assignment == null) {
+            return write.get();
+        }
+
+        Lock lock = lock(assignment.getCourseId()).readLock();
+        lock.lock();
+        try {
+            return write.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordAdded(Grade grade) {
+        Assignment assignment = assignmentService.getAssignmentById(grade.getAssignmentId());
+
+        if (assignment == null) {
+            return;
+        }
+
+        double percentage = percentage(grade.getScore(), assignment.getMaxScore());
+        String bucket = bucket(percentage);
+
+        gradeStatisticsRepository.add(newStatistics(assignment.getId(), StatisticsScope.ASSIGNMENT, assignment),
+                grade.getScore(), bucket);
+        gradeStatisticsRepository.add(newStatistics(assignment.getCourseId(), StatisticsScope.COURSE, assignment),
+                percentage, bucket);
+    }
+
+    // Called after the grade is gone, so a min or max that has to be looked up again no longer sees it.
+    // The assignment may already be deleted, which is why the max score comes from the statistics themselves.
+    public void recordRemoved(Grade grade) {
+        gradeStatisticsRepository.findById(grade.getAssignmentId()).ifPresent(assignmentStatistics -> {
+            double percentage = percentage(grade.getScore(), assignmentStatistics.getMaxScore());
+            String bucket = bucket(percentage);
+
+            gradeStatisticsRepository.subtract(assignmentStatistics.getId(), grade.getScore(), bucket)
+                    .ifPresent(statistics -> refreshAssignmentRange(statistics, grade.getScore()));
+            gradeStatisticsRepository.subtract(assignmentStatistics.getCourseId(), percentage, bucket)
+                    .ifPresent(statistics -> refreshCourseRange(statistics, percentage));
+        });
+    }
+
+    // Rebuilds the statistics of the assignments from their grades, then those of their courses from the assignment
+    // statistics, replacing whatever the increments had drifted to. Assignments that no longer exist are skipped.
+    public void recompute(Collection<String> assignmentIds) {
+        Map<String, List<Assignment>> assignmentsByCourse = new LinkedHashMap<>();
+
+        for (String assignmentId : assignmentIds) {
+            Assignment assignment = assignmentService.getAssignmentById(assignmentId);
+
+            if (assignment != null) {
+                assignmentsByCourse.computeIfAbsent(assignment.getCourseId(), courseId -> new ArrayList<>()).add(assignment);
+            }
+        }
+
+        assignmentsByCourse.forEach((courseId, assignments) -> {
+            Lock lock = lock(courseId).writeLock();
+            lock.lock();
+            try {
+                assignments.forEach(this::recomputeAssignment);
+                recomputeCourse(courseId);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    public GradeStatisticsResponse getAssignmentStatistics(Assignment assignment) {
+        GradeStatistics statistics = gradeStatisticsRepository.findById(assignment.getId()).orElseGet(GradeStatistics::new);
+        long expected = enrollmentService.countEnrollments(assignment.getCourseId());
+
+        return toResponse(StatisticsScope.ASSIGNMENT, assignment.getId(), statistics,
+                assignment.getMaxScore() / 100.0, expected);
+    }
+
+    public GradeStatisticsResponse getCourseStatistics(String courseId) {
+        GradeStatistics statistics = gradeStatisticsRepository.findById(courseId).orElseGet(GradeStatistics::new);
+        long expected = enrollmentService.countEnrollments(courseId) * assignmentService.countAssignments(courseId);
+
+        return toResponse(StatisticsScope.COURSE, courseId, statistics, 1.0, expected);
+    }
+
+    public void deleteAssignmentStatistics(Collection<String> assignmentIds) {
+        gradeStatisticsRepository.deleteAllById(assignmentIds);
+    }
+
+    // The course statistics fold in those of every assignment, so they are rebuilt without the deleted one.
+    public void deleteAssignmentStatistics(Assignment assignment) {
+        Lock lock = lock(assignment.getCourseId()).writeLock();
+        lock.lock();
+        try {
+            gradeStatisticsRepository.deleteById(assignment.getId());
+            recomputeCourse(assignment.getCourseId());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void deleteCourseStatistics(String courseId) {
+        gradeStatisticsRepository.deleteById(courseId);
+    }
+
+    private void recomputeAssignment(Assignment assignment) {
+        GradeStatistics statistics = newStatistics(assignment.getId(), StatisticsScope.ASSIGNMENT, assignment);
+
+        gradeRepository.countByScore(assignment.getId()).forEach((score, count) ->
+                accumulate(statistics, score, count, bucket(percentage(score, assignment.getMaxScore()))));
+        gradeStatisticsRepository.save(statistics);
+    }
+
+    // Course statistics hold every grade in percent, so each assignment's sums are scaled by 100 / maxScore.
+    private void recomputeCourse(String courseId) {
+        GradeStatistics statistics = new GradeStatistics();
+        statistics.setId(courseId);
+        statistics.setScope(StatisticsScope.COURSE);
+        statistics.setCourseId(courseId);
+        statistics.setMaxScore(100);
+
+        for (GradeStatistics assignment : gradeStatisticsRepository.findAllByCourseIdAndScope(courseId,
+                StatisticsScope.ASSIGNMENT)) {
+            if (assignment.getCount() <= 0) {
+                continue;
+            }
+
+            double unit = percentage(1, assignment.getMaxScore());
+            statistics.setCount(statistics.getCount() + assignment.getCount());
+            statistics.setSum(statistics.getSum() + assignment.getSum() * unit);
+            statistics.setSumOfSquares(statistics.getSumOfSquares() + assignment.getSumOfSquares() * unit * unit);
+            assignment.getHistogram().forEach((bucket, count) -> statistics.getHistogram().merge(bucket, count, Long::sum));
+
+            if (assignment.getMin() != null && assignment.getMax() != null) {
+                extendRange(statistics, percentage(assignment.getMin(), assignment.getMaxScore()));
+                extendRange(statistics, percentage(assignment.getMax(), assignment.getMaxScore()));
+            }
+        }
+
+        gradeStatisticsRepository.save(statistics);
+    }
+
+    private void refreshAssignmentRange(GradeStatistics statistics, double removed) {
+        if (statistics.getCount() <= 0) {
+            gradeStatisticsRepository.updateRange(statistics.getId(), null, null);
+            return;
+        }
+
+        if (!isBound(statistics, removed)) {
+            return;
+        }
+
+        Double min = gradeRepository.findFirstByAssignmentIdOrderByScoreAsc(statistics.getId())
+                .map(grade -> (double) grade.getScore())
+                .orElse(null);
+        Double max = gradeRepository.findFirstByAssignmentIdOrderByScoreDesc(statistics.getId())
+                .map(grade -> (double) grade.getScore())
+                .orElse(null);
+        gradeStatisticsRepository.updateRange(statistics.getId(), min, max);
+    }
+
+    private void refreshCourseRange(GradeStatistics statistics, double removed) {
+        if (statistics.getCount() <= 0) {
+            gradeStatisticsRepository.updateRange(statistics.getId(), null, null);
+            return;
+        }
+
+        if (!isBound(statistics, removed)) {
+            return;
+        }
+
+        Double min = null;
+        Double max = null;
+
+        for (GradeStatistics assignment : gradeStatisticsRepository.findAllByCourseIdAndScope(statistics.getId(),
+                StatisticsScope.ASSIGNMENT)) {
+            if (assignment.getCount() <= 0 || assignment.getMin() == null) {
+                continue;
+            }
+
+            double assignmentMin = percentage(assignment.getMin(), assignment.getMaxScore());
+            double assignmentMax = percentage(assignment.getMax(), assignment.getMaxScore());
+            min = min == null ? assignmentMin : Math.min(min, assignmentMin);
+            max = max == null ? assignmentMax : Math.max(max, assignmentMax);
+        }
+
+        gradeStatisticsRepository.updateRange(statistics.getId(), min, max);
+    }
+
+    private boolean isBound(GradeStatistics statistics, double value) {
+        return statistics.getMin() == null || statistics.getMax() == null
+                || value <= statistics.getMin() || value >= statistics.getMax();
+    }
+
+    private GradeStatisticsResponse toResponse(StatisticsScope scope, String id, GradeStatistics statistics,
+                                               double unit, long expected) {
+        long count = statistics.getCount();
+        GradeStatisticsResponse response = new GradeStatisticsResponse()
+                .setScope(scope)
+                .setId(id)
+                .setCount(count)
+                .setMin(statistics.getMin())
+                .setMax(statistics.getMax())
+                .setCompletionRate(expected > 0 ? Math.min(1.0, (double) count / expected) : null)
+                .setHistogram(histogram(statistics, unit));
+
+        if (count > 0) {
+            double mean = statistics.getSum() / count;
+            double variance = Math.max(0, statistics.getSumOfSquares() / count - mean * mean);
+            response.setMean(mean)
+                    .setStandardDeviation(Math.sqrt(variance))
+                    .setMedian(median(response.getHistogram(), count, statistics));
+        }
+        return response;
+    }
+
+    private List<GradeStatisticsResponse.Bucket> histogram(GradeStatistics statistics, double unit) {
+        List<GradeStatisticsResponse.Bucket> buckets = new ArrayList<>(BUCKETS);
+
+        for (int i = 0; i < BUCKETS; i++) {
+            int lowerBound = i * BUCKET_WIDTH;
+            buckets.add(new GradeStatisticsResponse.Bucket()
+                    .setFrom(lowerBound * unit)
+                    .setTo((lowerBound + BUCKET_WIDTH) * unit)
+                    .setCount(statistics.getHistogram().getOrDefault(String.valueOf(lowerBound), 0L)));
+        }
+        return buckets;
+    }
+
+    // Interpolated inside the bucket that holds the middle grade, so it is exact only to the bucket width.
+    private Double median(List<GradeStatisticsResponse.Bucket> histogram, long count, GradeStatistics statistics) {
+        double target = count / 2.0;
+        long cumulative = 0;
+
+        for (GradeStatisticsResponse.Bucket bucket : histogram) {
+            if (bucket.getCount() > 0 && cumulative + bucket.getCount() >= target) {
+                double median = bucket.getFrom() + (target - cumulative) / bucket.getCount() * (bucket.getTo() - bucket.getFrom());
+
+                if (statistics.getMin() != null && statistics.getMax() != null) {
+                    median = Math.max(statistics.getMin(), Math.min(statistics.getMax(), median));
+                }
+                return median;
+            }
+            cumulative += bucket.getCount();
+        }
+        return null;
+    }
+
+    private ReadWriteLock lock(String courseId) {
+        return locks[Math.floorMod(courseId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static void accumulate(GradeStatistics statistics, double value, long count, String bucket) {
+        statistics.setCount(statistics.getCount() + count);
+        statistics.setSum(statistics.getSum() + value * count);
+        statistics.setSumOfSquares(statistics.getSumOfSquares() + value * value * count);
+        statistics.getHistogram().merge(bucket, count, Long::sum);
+        extendRange(statistics, value);
+    }
+
+    private static void extendRange(GradeStatistics statistics, double value) {
+        statistics.setMin(statistics.getMin() == null ? value : Math.min(statistics.getMin(), value));
+        statistics.setMax(statistics.getMax() == null ? value : Math.max(statistics.getMax(), value));
+    }
+
+    private static GradeStatistics newStatistics(String id, StatisticsScope scope, Assignment assignment) {
+        GradeStatistics statistics = new GradeStatistics();
+        statistics.setId(id);
+        statistics.setScope(scope);
+        statistics.setCourseId(assignment.getCourseId());
+        statistics.setMaxScore(scope == StatisticsScope.ASSIGNMENT ? assignment.getMaxScore() : 100);
+        return statistics;
+    }
+
+    private static double percentage(double score, int maxScore) {
+        return maxScore > 0 ? 100.0 * score / maxScore : 0;
+    }
+
+    private static String bucket(double percentage) {
+        int bucket = Math.max(0, Math.min(BUCKETS - 1, (int) (percentage / BUCKET_WIDTH)));
+        return String.valueOf(bucket * BUCKET_WIDTH);
+    }
+}
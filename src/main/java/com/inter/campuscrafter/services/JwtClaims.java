@@ -0,0 +1,26 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.entities.UserRole;
+
+import java.time.Instant;
+import java.util.List;
+
+public record JwtClaims(String tokenId,
+                        String subject,
+                        Instant expiresAt,
+                        List<String> roles,
+                        String userId,
+                        UserRole userRole,
+                        Integer tokenVersion) {
+    public JwtClaims {
+        roles = List.copyOf(roles);
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+
+    public boolean carriesPrincipal() {
+        return userId != null && userRole != null && tokenVersion != null;
+    }
+}
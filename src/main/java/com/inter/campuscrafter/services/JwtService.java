@@ -1,27 +1,60 @@
 package com.inter.campuscrafter.services;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.entities.UserRole;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class JwtService {
-    @Value("${security.jwt.secret-key}")
-    private String secretKey;
+    private static final String ROLES_CLAIM = "roles";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String USER_ROLE_CLAIM = "role";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${security.jwt.expiration-time}")
-    private long jwtExpiration;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final long jwtExpiration;
+    private final boolean statelessPrincipal;
+
+    public JwtService(@Value("${security.jwt.secret-key}") String secretKey,
+                      @Value("${security.jwt.expiration-time}") long jwtExpiration,
+                      @Value("${security.jwt.stateless-principal}") boolean statelessPrincipal) {
+        this.algorithm = Algorithm.HMAC256(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+        this.jwtExpiration = jwtExpiration;
+        this.statelessPrincipal = statelessPrincipal;
+    }
+
+    public JwtClaims verify(String token) {
+        DecodedJWT jwt = verifier.verify(token);
+        List<String> roles = jwt.getClaim(ROLES_CLAIM).asList(String.class);
+        String userRole = jwt.getClaim(USER_ROLE_CLAIM).asString();
+
+        return new JwtClaims(jwt.getId(),
+                jwt.getSubject(),
+                jwt.getExpiresAtAsInstant(),
+                roles == null ? List.of() : roles,
+                jwt.getClaim(USER_ID_CLAIM).asString(),
+                userRole == null ? null : UserRole.valueOf(userRole),
+                jwt.getClaim(TOKEN_VERSION_CLAIM).asInt());
+    }
 
     public String extractUsername(String token) {
-        return getDecodedJWT(token).getSubject();
+        return verify(token).subject();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -29,30 +62,40 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return JWT.create()
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        JWTCreator.Builder builder = JWT.create()
+                .withJWTId(UUID.randomUUID().toString())
                 .withSubject(userDetails.getUsername())
                 .withExpiresAt(new Date(System.currentTimeMillis() + jwtExpiration))
                 .withIssuedAt(new Date())
-                .withPayload(extraClaims)
-                .sign(getAlgorithm());
+                .withClaim(ROLES_CLAIM, roles);
+
+        if (statelessPrincipal && userDetails instanceof User user) {
+            builder.withClaim(USER_ID_CLAIM, user.getId())
+                    .withClaim(USER_ROLE_CLAIM, user.getUserRole().name())
+                    .withClaim(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        }
+
+        return builder.withPayload(extraClaims).sign(algorithm);
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            DecodedJWT jwt = getDecodedJWT(token);
-            return !jwt.getExpiresAt().before(new Date()) && jwt.getSubject().equals(userDetails.getUsername());
+            return isTokenValid(verify(token), userDetails);
         } catch (Exception e) {
             return false;
         }
     }
 
-    private Algorithm getAlgorithm() {
-        return Algorithm.HMAC256(secretKey);
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return !claims.isExpired() && claims.subject().equals(userDetails.getUsername());
     }
 
-    private DecodedJWT getDecodedJWT(String token) {
-        JWTVerifier verifier = JWT.require(getAlgorithm()).build();
-        return verifier.verify(token);
+    public boolean isStatelessPrincipal() {
+        return statelessPrincipal;
     }
 
     public long getExpirationTime() {
@@ -0,0 +1,107 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Coalesces lastLogin timestamps per user and writes them in batches, so a login storm costs one
+// small update per user and flush instead of a full document save per login.
+@Slf4j
+@Component
+public class LastLoginBuffer {
+    private final UserRepository userRepository;
+    private final Duration flushInterval;
+    private final int flushSize;
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "last-login-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LastLoginBuffer(UserRepository userRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${last-login.flush-interval}") Duration flushInterval,
+                           @Value("${last-login.flush-size}") int flushSize) {
+        this.userRepository = userRepository;
+        this.flushInterval = flushInterval;
+        this.flushSize = flushSize;
+
+        Gauge.builder("users.last_login.pending", pending, Map::size)
+                .description("Users whose lastLogin has not been written yet")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void record(String userId, LocalDateTime lastLogin) {
+        pending.merge(userId, lastLogin, (previous, current) -> current.isAfter(previous) ? current : previous);
+
+        if (pending.size() >= flushSize && flushRequested.compareAndSet(false, true)) {
+            executor.execute(this::flushQuietly);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        flushRequested.set(false);
+
+        while (!pending.isEmpty()) {
+            Map<String, LocalDateTime> batch = drain();
+
+            try {
+                userRepository.updateLastLogins(batch);
+            } catch (RuntimeException exception) {
+                // Put the batch back unless a newer login for the same user arrived in the meantime.
+                batch.forEach((userId, lastLogin) ->
+                        pending.merge(userId, lastLogin, (current, failed) -> current.isAfter(failed) ? current : failed));
+                log.warn("Could not write lastLogin for {} users, retrying on the next flush", batch.size(), exception);
+                return;
+            }
+        }
+    }
+
+    private Map<String, LocalDateTime> drain() {
+        Map<String, LocalDateTime> batch = new HashMap<>();
+
+        for (String userId : List.copyOf(pending.keySet())) {
+            if (batch.size() == flushSize) {
+                break;
+            }
+
+            LocalDateTime lastLogin = pending.remove(userId);
+            if (lastLogin != null) {
+                batch.put(userId, lastLogin);
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,73 @@
+package com.inter.campuscrafter.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.inter.campuscrafter.entities.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+@Service
+public class TokenCacheService {
+    private final Cache<String, VerifiedToken> cache;
+    private final Timer verificationTimer;
+
+    public TokenCacheService(@Value("${security.jwt.cache.max-size}") long maxSize,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        this.verificationTimer = Timer.builder("jwt.verification")
+                .description("Time spent verifying a token and resolving its principal on a cache miss")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.principals");
+        Gauge.builder("jwt.principals.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+    }
+
+    public UserDetails resolve(String token, Function<String, VerifiedToken> verifier) {
+        VerifiedToken verifiedToken = cache.get(token, key -> verificationTimer.record(() -> verifier.apply(key)));
+        return verifiedToken == null ? null : verifiedToken.userDetails();
+    }
+
+    public void evictToken(String token) {
+        cache.invalidate(token);
+    }
+
+    public void evictUser(String userId) {
+        cache.asMap().values().removeIf(verifiedToken ->
+                verifiedToken.userDetails() instanceof User user && userId.equals(user.getId()));
+    }
+
+    public record VerifiedToken(UserDetails userDetails, Instant expiresAt) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), verifiedToken.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
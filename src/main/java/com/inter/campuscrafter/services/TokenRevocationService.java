@@ -0,0 +1,80 @@
+package com.inter.campuscrafter.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.inter.campuscrafter.entities.User;
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Service
+public class TokenRevocationService {
+    private final JwtService jwtService;
+    private final TokenCacheService tokenCacheService;
+    private final Cache<String, Instant> revokedTokenIds;
+    private final LoadingCache<String, Integer> tokenVersions;
+
+    public TokenRevocationService(JwtService jwtService,
+                                  TokenCacheService tokenCacheService,
+                                  UserRepository userRepository,
+                                  @Value("${security.jwt.cache.max-size}") long maxSize) {
+        this.jwtService = jwtService;
+        this.tokenCacheService = tokenCacheService;
+        this.revokedTokenIds = Caffeine.newBuilder()
+                .expireAfter(new RevocationExpiry())
+                .build();
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build(userId -> userRepository.findById(userId)
+                        .map(User::getTokenVersion)
+                        .orElse(Integer.MAX_VALUE));
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.tokenId() != null && revokedTokenIds.getIfPresent(claims.tokenId()) != null) {
+            return true;
+        }
+
+        return claims.carriesPrincipal() && claims.tokenVersion() < tokenVersions.get(claims.userId());
+    }
+
+    public void revoke(String token) {
+        JwtClaims claims = jwtService.verify(token);
+
+        if (claims.tokenId() != null) {
+            revokedTokenIds.put(claims.tokenId(), claims.expiresAt());
+        }
+        tokenCacheService.evictToken(token);
+    }
+
+    public void updateTokenVersion(String userId, int tokenVersion) {
+        tokenVersions.put(userId, tokenVersion);
+        tokenCacheService.evictUser(userId);
+    }
+
+    public void revokeAll(String userId) {
+        updateTokenVersion(userId, Integer.MAX_VALUE);
+    }
+
+    private static class RevocationExpiry implements Expiry<String, Instant> {
+        @Override
+        public long expireAfterCreate(String tokenId, Instant expiresAt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.entities.Grade;
+import com.inter.campuscrafter.entities.Transcript;
+import com.inter.campuscrafter.repositories.interfaces.CourseRepository;
+import com.inter.campuscrafter.repositories.interfaces.GradeRepository;
+import com.inter.campuscrafter.repositories.interfaces.TranscriptRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class TranscriptService {
+    private static final int LOCK_STRIPES = 64;
+    private static final int GRADE_PAGE_SIZE = 1000;
+
+    private final TranscriptRepository transcriptRepository;
+    private final GradeRepository gradeRepository;
+    private final AssignmentService assignmentService;
+    private final CourseRepository courseRepository;
+    private final EntityCache<Course> courseCache;
+    // One executor for every caller, with the permits capping how many refreshes run at once across all of them.
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("transcript-refresh-", 0).factory());
+    private final Semaphore permits;
+    // A refresh reads the student's grades and then overwrites the transcript, so two refreshes of one student
+    // must not interleave. ReentrantLock rather than synchronized keeps virtual threads from pinning their carrier.
+    private final Lock[] locks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(stripe -> new ReentrantLock())
+            .toArray(Lock[]::new);
+
+    public TranscriptService(TranscriptRepository transcriptRepository,
+                             GradeRepository gradeRepository,
+                             AssignmentService assignmentService,
+                             CourseRepository courseRepository,
+                             EntityCache<Course> courseCache,
+                             @Value("${transcripts.rebuild-parallelism}") int rebuildParallelism) {
+        this.transcriptRepository = transcriptRepository;
+        this.gradeRepository = gradeRepository;
+        this.assignmentService = assignmentService;
+        this.courseRepository = courseRepository;
+        this.courseCache = courseCache;
+        this.permits = new Semaphore(rebuildParallelism);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public Transcript getTranscript(String studentId) {
+        return transcriptRepository.findById(studentId).orElseGet(() -> {
+            Transcript transcript = new Transcript();
+            transcript.setStudentId(studentId);
+            return transcript;
+        });
+    }
+
+    public void refresh(String studentId) {
+        Lock lock = locks[Math.floorMod(studentId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            Transcript transcript = build(studentId);
+
+            if (transcript.getCourses().isEmpty()) {
+                transcriptRepository.deleteById(studentId);
+            } else {
+                transcriptRepository.save(transcript);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A change to an assignment or a course can touch thousands of transcripts, so the request does not wait for them.
+    public void scheduleRefreshOfAssignment(String assignmentId) {
+        executor.execute(() -> refreshStudentsOf(List.of(assignmentId)));
+    }
+
+    public void scheduleRefreshOfCourse(String courseId) {
+        executor.execute(() -> refreshStudentsOf(assignmentService.getAllAssignmentsByCourseId(courseId).stream()
+                .map(Assignment::getId)
+                .toList()));
+    }
+
+    public int refreshAll(Collection<String> studentIds) {
+        Map<String, Future<?>> refreshes = new LinkedHashMap<>();
+        studentIds.forEach(studentId -> refreshes.put(studentId, executor.submit(() -> refreshWithPermit(studentId))));
+        int failed = 0;
+
+        for (Map.Entry<String, Future<?>> refresh : refreshes.entrySet()) {
+            try {
+                refresh.getValue().get();
+            } catch (ExecutionException exception) {
+                failed++;
+                log.warn("Could not refresh the transcript of student {}", refresh.getKey(), exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while refreshing transcripts", exception);
+            }
+        }
+
+        return studentIds.size() - failed;
+    }
+
+    public void deleteTranscript(String studentId) {
+        transcriptRepository.deleteById(studentId);
+    }
+
+    private Void refreshWithPermit(String studentId) throws InterruptedException {
+        permits.acquire();
+        try {
+            refresh(studentId);
+            return null;
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Pages through the grades so only one page of them is held at a time; a student with grades on several
+    // pages is refreshed once.
+    private void refreshStudentsOf(List<String> assignmentIds) {
+        if (assignmentIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<String> refreshed = new HashSet<>();
+            List<Grade> grades;
+            int page = 0;
+
+            do {
+                grades = gradeRepository.findByAssignmentIdIn(assignmentIds, PageRequest.of(page++, GRADE_PAGE_SIZE, Sort.by("id")));
+                refreshAll(studentIds(grades).stream().filter(refreshed::add).toList());
+            } while (grades.size() == GRADE_PAGE_SIZE);
+        } catch (RuntimeException exception) {
+            log.error("Could not refresh the transcripts of the students of assignments {}", assignmentIds, exception);
+        }
+    }
+
+    private Transcript build(String studentId) {
+        Map<String, Transcript.CourseResult> results = new LinkedHashMap<>();
+
+        for (Grade grade : gradeRepository.findByStudentId(studentId)) {
+            Assignment assignment = assignmentService.getAssignmentById(grade.getAssignmentId());
+            Course course = assignment == null ? null : findCourse(assignment.getCourseId());
+
+            if (course == null) {
+                continue;
+            }
+
+            Transcript.CourseResult result = results.computeIfAbsent(course.getId(), courseId -> {
+                Transcript.CourseResult courseResult = new Transcript.CourseResult();
+                courseResult.setCourseId(courseId);
+                courseResult.setTitle(course.getTitle());
+                courseResult.setCredits(course.getCredits());
+                return courseResult;
+            });
+            result.setGradedAssignments(result.getGradedAssignments() + 1);
+            result.setEarnedPoints(result.getEarnedPoints() + grade.getScore());
+            result.setPossiblePoints(result.getPossiblePoints() + assignment.getMaxScore());
+        }
+
+        int totalCredits = 0;
+        double weightedSum = 0;
+
+        for (Transcript.CourseResult result : results.values()) {
+            if (result.getPossiblePoints() > 0) {
+                result.setPercentage(100.0 * result.getEarnedPoints() / result.getPossiblePoints());
+                totalCredits += result.getCredits();
+                weightedSum += result.getPercentage() * result.getCredits();
+            }
+        }
+
+        Transcript transcript = new Transcript();
+        transcript.setStudentId(studentId);
+        transcript.setCourses(new ArrayList<>(results.values()));
+        transcript.setTotalCredits(totalCredits);
+        transcript.setWeightedPercentage(totalCredits > 0 ? weightedSum / totalCredits : null);
+        transcript.setUpdatedAt(LocalDateTime.now());
+        return transcript;
+    }
+
+    private Course findCourse(String courseId) {
+        return courseCache.get(courseId, key -> courseRepository.findById(key).orElse(null));
+    }
+
+    private static Set<String> studentIds(List<Grade> grades) {
+        return grades.stream()
+                .map(Grade::getStudentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
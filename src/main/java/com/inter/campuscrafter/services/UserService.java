@@ -1,44 +1,54 @@
 package com.inter.campuscrafter.services;
 
 import com.inter.campuscrafter.entities.Course;
-import com.inter.campuscrafter.entities.Student;
+import com.inter.campuscrafter.entities.DeletionTarget;
+import com.inter.campuscrafter.entities.DeletionTask;
 import com.inter.campuscrafter.entities.User;
-import com.inter.campuscrafter.exceptions.UserNotFoundException;
 import com.inter.campuscrafter.repositories.interfaces.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Validated
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final EnrollmentService enrollmentService;
     private final AuthenticationManager authenticationManager;
+    private final TokenCacheService tokenCacheService;
+    private final TokenRevocationService tokenRevocationService;
+    private final DeletionService deletionService;
+    private final LastLoginBuffer lastLoginBuffer;
 
     public User getUserById(String userId) {
         return userRepository.findById(userId).orElse(null);
     }
 
     public boolean enrolledInCourse(String userId, String courseId) {
-        Student student = userRepository.findStudentById(userId)
-                .orElseThrow(() -> new IllegalStateException("Student not found with ID: " + userId));
+        return enrollmentService.isEnrolled(userId, courseId);
+    }
 
-        return student.getCourseIds()
-                .stream()
-                .anyMatch(courseId::equals);
+    public Mono<Boolean> checkEnrolledInCourse(String userId, String courseId) {
+        return enrollmentService.checkEnrolled(userId, courseId);
     }
 
     public boolean enrolledInAnyCourse(String studentId, List<Course> allCourses) {
-        return !allCourses.stream()
-                .filter(course -> enrolledInCourse(studentId, course.getId()))
-                .toList()
-                .isEmpty();
+        List<String> courseIds = allCourses.stream()
+                .map(Course::getId)
+                .toList();
+
+        return !courseIds.isEmpty() && enrollmentService.isEnrolledInAny(studentId, courseIds);
     }
 
     public boolean userExists(String userId) {
@@ -46,16 +56,47 @@ public class UserService {
     }
 
     public User updateUser(String userId, User userProfile) {
-        return userRepository.findById(userId)
-                .map(user -> {
-                    user.setName(userProfile.getName());
-                    user.setEmail(userProfile.getEmail());
-                    user.setUserRole(userProfile.getUserRole());
-                    user.setBio(userProfile.getBio());
-
-                    return userRepository.save(user);
-                })
-                .orElse(null);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", userProfile.getName());
+        fields.put("email", userProfile.getEmail());
+        fields.put("userRole", userProfile.getUserRole());
+        fields.put("bio", userProfile.getBio());
+
+        return patchUser(userId, null, fields);
+    }
+
+    public User patchUser(String userId, Long expectedVersion, Map<String, Object> fields) {
+        Map<String, Object> changes = new LinkedHashMap<>(fields);
+        Long version = expectedVersion;
+        boolean principalChanged = false;
+
+        if (fields.containsKey("email") || fields.containsKey("userRole")) {
+            User user = userRepository.findById(userId).orElse(null);
+            if (user == null) {
+                return null;
+            }
+
+            principalChanged = user.getUserRole() != fields.getOrDefault("userRole", user.getUserRole())
+                    || !Objects.equals(user.getEmail(), fields.getOrDefault("email", user.getEmail()));
+
+            if (principalChanged) {
+                // The new token version is derived from this read, so the write must not land on a newer document.
+                changes.put("tokenVersion", user.getTokenVersion() + 1);
+                version = expectedVersion != null ? expectedVersion : Long.valueOf(user.getVersion());
+            }
+        }
+
+        User updatedUser = userRepository.updateFields(userId, version, changes).orElse(null);
+        if (updatedUser == null) {
+            return null;
+        }
+
+        if (principalChanged) {
+            tokenRevocationService.updateTokenVersion(userId, updatedUser.getTokenVersion());
+        } else {
+            tokenCacheService.evictUser(userId);
+        }
+        return updatedUser;
     }
 
     public User createUser(User newUser) {
@@ -64,22 +105,21 @@ public class UserService {
     }
 
 
-    public void deleteUser(String userId) {
-        userRepository.deleteById(userId);
+    public DeletionTask deleteUser(String userId) {
+        return deletionService.submit(DeletionTarget.USER, userId);
     }
 
     public User authenticate(User loginUser) {
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginUser.getEmail(),
                         loginUser.getPassword()
                 )
         );
 
-        return userRepository.findByEmail(loginUser.getEmail()).map(user -> {
-                    user.setLastLogin(LocalDateTime.now());
-                    return userRepository.save(user);
-                })
-                .orElseThrow(() -> new UserNotFoundException("User not found for login"));
+        User user = (User) authentication.getPrincipal();
+        user.setLastLogin(LocalDateTime.now());
+        lastLoginBuffer.record(user.getId(), user.getLastLogin());
+        return user;
     }
 }
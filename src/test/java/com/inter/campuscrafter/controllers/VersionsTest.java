@@ -0,0 +1,53 @@
+package com.inter.campuscrafter.controllers;
+
+import com.inter.campuscrafter.exceptions.GlobalExceptionHandler;
+import com.inter.campuscrafter.exceptions.VersionConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionsTest {
+    @Test
+    void readsTheVersionFromStrongAndWeakETags() {
+        assertThat(Versions.expectedVersion("\"3\"", null)).isEqualTo(3L);
+        assertThat(Versions.expectedVersion("W/\"3\"", null)).isEqualTo(3L);
+        assertThat(Versions.expectedVersion(Versions.eTag(7), null)).isEqualTo(7L);
+    }
+
+    @Test
+    void prefersIfMatchOverTheBodyVersion() {
+        assertThat(Versions.expectedVersion("\"3\"", 5L)).isEqualTo(3L);
+        assertThat(Versions.expectedVersion(null, 5L)).isEqualTo(5L);
+    }
+
+    @Test
+    void skipsTheCheckForAWildcard() {
+        assertThat(Versions.expectedVersion("*", 5L)).isNull();
+    }
+
+    @Test
+    void requiresAVersion() {
+        assertThatThrownBy(() -> Versions.expectedVersion(null, null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED));
+    }
+
+    @Test
+    void rejectsAnIfMatchThatIsNotAVersion() {
+        assertThatThrownBy(() -> Versions.expectedVersion("\"abc\"", null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        exception -> assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void answersAVersionConflictWithConflict() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+        assertThat(handler.handleSecurityException(new VersionConflictException("course-1", 3)).getStatus()).isEqualTo(409);
+        assertThat(handler.handleSecurityException(new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED)).getStatus())
+                .isEqualTo(428);
+    }
+}
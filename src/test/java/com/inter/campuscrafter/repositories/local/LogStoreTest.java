@@ -0,0 +1,149 @@
+package com.inter.campuscrafter.repositories.local;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inter.campuscrafter.entities.Enrollment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogStoreTest {
+    private static final String FIRST_SEGMENT = "segment-000000000001.log";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    private LogStore logStore;
+    private LogStructuredEnrollmentRepository repository;
+
+    @BeforeEach
+    void open() {
+        logStore = new LogStore(directory, DataSize.ofKilobytes(64), false, Duration.ofHours(1), objectMapper);
+        repository = new LogStructuredEnrollmentRepository(logStore);
+        logStore.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        logStore.close();
+    }
+
+    @Test
+    void replaysEveryWriteAfterRestart() throws IOException {
+        Enrollment kept = repository.save(new Enrollment("student-1", "course-1"));
+        Enrollment deleted = repository.save(new Enrollment("student-1", "course-2"));
+        repository.deleteById(deleted.getId());
+
+        reopen();
+
+        assertThat(repository.findAllByStudentId("student-1"))
+                .extracting(Enrollment::getId)
+                .containsExactly(kept.getId());
+    }
+
+    @Test
+    void stopsAtATornFrameAtTheEndOfTheSegment() throws IOException {
+        Enrollment saved = repository.save(new Enrollment("student-1", "course-1"));
+        logStore.close();
+
+        // A crash in the middle of an append leaves a header whose payload was only partly written.
+        long end = frameOffsets(directory.resolve(FIRST_SEGMENT)).getLast();
+        writeAt(directory.resolve(FIRST_SEGMENT), end, ByteBuffer.allocate(16).putInt(200).putInt(12345).putInt(7).putInt(7).flip());
+
+        open();
+        assertThat(repository.findById(saved.getId())).isPresent();
+
+        Enrollment afterRecovery = repository.save(new Enrollment("student-2", "course-1"));
+        reopen();
+
+        assertThat(repository.findById(saved.getId())).isPresent();
+        assertThat(repository.findById(afterRecovery.getId())).isPresent();
+    }
+
+    @Test
+    void stopsAtAFrameWithABadChecksum() throws IOException {
+        Enrollment first = repository.save(new Enrollment("student-1", "course-1"));
+        Enrollment second = repository.save(new Enrollment("student-1", "course-2"));
+        Enrollment third = repository.save(new Enrollment("student-1", "course-3"));
+        logStore.close();
+
+        Path segment = directory.resolve(FIRST_SEGMENT);
+        long secondPayload = frameOffsets(segment).get(1) + 2 * Integer.BYTES;
+        writeAt(segment, secondPayload + 1, ByteBuffer.wrap(new byte[]{'#'}));
+
+        open();
+
+        assertThat(repository.findById(first.getId())).isPresent();
+        assertThat(repository.findById(second.getId())).isEmpty();
+        assertThat(repository.findById(third.getId())).isEmpty();
+    }
+
+    @Test
+    void restoresTheSnapshotAndReplaysTheSegmentsWrittenAfterIt() throws IOException {
+        Enrollment deletedAfterSnapshot = repository.save(new Enrollment("student-1", "course-1"));
+        Enrollment inSnapshot = repository.save(new Enrollment("student-1", "course-2"));
+        logStore.snapshot();
+        Enrollment afterSnapshot = repository.save(new Enrollment("student-1", "course-3"));
+        repository.deleteById(deletedAfterSnapshot.getId());
+
+        reopen();
+
+        assertThat(repository.findAllByStudentId("student-1"))
+                .extracting(Enrollment::getId)
+                .containsExactlyInAnyOrder(inSnapshot.getId(), afterSnapshot.getId());
+        assertThat(files()).contains("snapshot-000000000002.dat").doesNotContain(FIRST_SEGMENT);
+    }
+
+    private void reopen() throws IOException {
+        close();
+        open();
+    }
+
+    // Start offsets of every frame, followed by the offset just past the last one.
+    private static List<Long> frameOffsets(Path segment) throws IOException {
+        List<Long> offsets = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= Integer.BYTES) {
+                offsets.add((long) buffer.position());
+                int length = buffer.getInt();
+
+                if (length <= 0) {
+                    break;
+                }
+                buffer.position(buffer.position() + Integer.BYTES + length);
+            }
+        }
+        return offsets;
+    }
+
+    private static void writeAt(Path file, long position, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, position);
+        }
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.inter.campuscrafter.repositories.memory;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.exceptions.VersionConflictException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCourseRepositoryTest {
+    private final InMemoryCourseRepository courseRepository = new InMemoryCourseRepository();
+
+    @Test
+    void updatesTheGivenFieldsAndBumpsTheVersion() {
+        Course course = courseRepository.save(course("Algebra", 3));
+
+        Course updated = courseRepository.updateFields(course.getId(), 0L, Map.of("title", "Geometry")).orElseThrow();
+
+        assertThat(updated.getTitle()).isEqualTo("Geometry");
+        assertThat(updated.getCredits()).isEqualTo(3);
+        assertThat(updated.getVersion()).isEqualTo(1);
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsAStaleVersionAndKeepsTheStoredCourse() {
+        Course course = courseRepository.save(course("Algebra", 3));
+        courseRepository.updateFields(course.getId(), 0L, Map.of("credits", 4));
+
+        assertThatThrownBy(() -> courseRepository.updateFields(course.getId(), 0L, Map.of("title", "Geometry")))
+                .isInstanceOf(VersionConflictException.class);
+
+        Course stored = courseRepository.findById(course.getId()).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("Algebra");
+        assertThat(stored.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void updatesRegardlessOfTheVersionWhenNoneIsExpected() {
+        Course course = courseRepository.save(course("Algebra", 3));
+        courseRepository.updateFields(course.getId(), 0L, Map.of("credits", 4));
+
+        assertThat(courseRepository.updateFields(course.getId(), null, Map.of("title", "Geometry")))
+                .hasValueSatisfying(updated -> assertThat(updated.getVersion()).isEqualTo(2));
+    }
+
+    @Test
+    void findsNothingForAMissingCourse() {
+        assertThat(courseRepository.updateFields("missing", 0L, Map.of("title", "Geometry"))).isEmpty();
+    }
+
+    private static Course course(String title, int credits) {
+        Course course = new Course();
+        course.setTitle(title);
+        course.setCredits(credits);
+        return course;
+    }
+}
@@ -0,0 +1,40 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.GradeStatistics;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class GradeStatisticsMongoRepositoryCustomImplTest {
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final GradeStatisticsMongoRepositoryCustomImpl repository = new GradeStatisticsMongoRepositoryCustomImpl(mongoTemplate);
+
+    @Test
+    void unsetsAnEmptyRangeSoTheNextGradeSetsIt() {
+        repository.updateRange("assignment-1", null, null);
+
+        assertThat(updateDocument()).isEqualTo(new Document("$unset", new Document("min", 1).append("max", 1)));
+    }
+
+    @Test
+    void setsANonEmptyRange() {
+        repository.updateRange("assignment-1", 4.0, 9.0);
+
+        assertThat(updateDocument()).isEqualTo(new Document("$set", new Document("min", 4.0).append("max", 9.0)));
+    }
+
+    private Document updateDocument() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(GradeStatistics.class));
+        return update.getValue().getUpdateObject();
+    }
+}
@@ -0,0 +1,89 @@
+package com.inter.campuscrafter.repositories.mongo;
+
+import com.inter.campuscrafter.entities.Course;
+import com.inter.campuscrafter.exceptions.VersionConflictException;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class VersionedUpdateTest {
+    private static final String ID = "course-1";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @Test
+    void setsOnlyTheGivenFieldsAndBumpsTheVersion() {
+        Course updated = new Course();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Course.class)))
+                .thenReturn(updated);
+
+        assertThat(VersionedUpdate.updateFields(mongoTemplate, Course.class, ID, 3L, Map.of("title", "Algebra")))
+                .containsSame(updated);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), options.capture(), eq(Course.class));
+        assertThat(update.getValue().getUpdateObject())
+                .isEqualTo(new Document("$inc", new Document("version", 1)).append("$set", new Document("title", "Algebra")));
+        assertThat(options.getValue().isReturnNew()).isTrue();
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(Course.class));
+    }
+
+    @Test
+    void matchesTheExpectedVersion() {
+        VersionedUpdate.updateFields(mongoTemplate, Course.class, ID, 3L, Map.of());
+
+        verify(mongoTemplate).findAndModify(argThat(query -> query.getQueryObject()
+                        .equals(new Document("_id", ID).append("version", 3L))),
+                any(Update.class), any(FindAndModifyOptions.class), eq(Course.class));
+    }
+
+    @Test
+    void treatsAMissingVersionFieldAsVersionZero() {
+        VersionedUpdate.updateFields(mongoTemplate, Course.class, ID, 0L, Map.of());
+
+        Document expected = new Document("_id", ID).append("$or", List.of(
+                new Document("version", 0L),
+                new Document("version", new Document("$exists", false))));
+        verify(mongoTemplate).findAndModify(argThat(query -> query.getQueryObject().equals(expected)),
+                any(Update.class), any(FindAndModifyOptions.class), eq(Course.class));
+    }
+
+    @Test
+    void ignoresTheVersionWhenNoneIsExpected() {
+        VersionedUpdate.updateFields(mongoTemplate, Course.class, ID, null, Map.of());
+
+        verify(mongoTemplate).findAndModify(argThat(query -> query.getQueryObject().equals(new Document("_id", ID))),
+                any(Update.class), any(FindAndModifyOptions.class), eq(Course.class));
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(Course.class));
+    }
+
+    @Test
+    void reportsAConflictWhenTheDocumentExistsWithAnotherVersion() {
+        when(mongoTemplate.exists(any(Query.class), eq(Course.class))).thenReturn(true);
+
+        assertThatThrownBy(() -> VersionedUpdate.updateFields(mongoTemplate, Course.class, ID, 3L, Map.of("title", "Algebra")))
+                .isInstanceOf(VersionConflictException.class)
+                .hasMessageContaining(ID);
+    }
+
+    @Test
+    void findsNothingWhenTheDocumentDoesNotExist() {
+        when(mongoTemplate.exists(any(Query.class), eq(Course.class))).thenReturn(false);
+
+        assertThat(VersionedUpdate.updateFields(mongoTemplate, Course.class, ID, 3L, Map.of("title", "Algebra"))).isEmpty();
+    }
+}
@@ -0,0 +1,158 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.entities.DeletionStatus;
+import com.inter.campuscrafter.entities.DeletionStep;
+import com.inter.campuscrafter.entities.DeletionTarget;
+import com.inter.campuscrafter.entities.DeletionTask;
+import com.inter.campuscrafter.repositories.interfaces.CourseRepository;
+import com.inter.campuscrafter.repositories.interfaces.UserRepository;
+import com.inter.campuscrafter.repositories.memory.InMemoryDeletionTaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.byLessThan;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class DeletionWorkerTest {
+    private static final Duration RETRY_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final InMemoryDeletionTaskRepository deletionTaskRepository = new InMemoryDeletionTaskRepository();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final GradeService gradeService = mock(GradeService.class);
+    private final EnrollmentService enrollmentService = mock(EnrollmentService.class);
+    private final TranscriptService transcriptService = mock(TranscriptService.class);
+
+    private DeletionWorker deletionWorker;
+    private DeletionService deletionService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void createWorker() {
+        deletionWorker = new DeletionWorker(deletionTaskRepository, mock(CourseRepository.class), mock(EntityCache.class),
+                userRepository, mock(TokenRevocationService.class), mock(AssignmentService.class), gradeService,
+                enrollmentService, mock(GradeStatisticsService.class), transcriptService,
+                100, MAX_ATTEMPTS, RETRY_BACKOFF, Duration.ofHours(1), LEASE);
+        deletionService = new DeletionService(deletionTaskRepository, deletionWorker);
+    }
+
+    @AfterEach
+    void stopWorker() {
+        deletionWorker.stop();
+    }
+
+    @Test
+    void acceptsTheDeletionWhenTheRootStepFails() {
+        doThrow(new IllegalStateException("database unavailable")).when(userRepository).deleteById("user-1");
+
+        DeletionTask task = deletionService.submit(DeletionTarget.USER, "user-1");
+
+        DeletionTask stored = deletionTaskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(DeletionStatus.PENDING);
+        assertThat(stored.getStep()).isEqualTo(DeletionStep.ROOT);
+        assertThat(stored.getAttempts()).isEqualTo(1);
+        assertThat(stored.getLastError()).isEqualTo("database unavailable");
+        assertThat(stored.getLeaseUntil()).isNull();
+        assertThat(stored.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plus(RETRY_BACKOFF), byLessThan(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void doublesTheBackoffAndGivesUpAfterTheLastAttempt() {
+        when(gradeService.deleteGradeBatchByStudentId(anyString(), anyInt()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        DeletionTask task = deletionTaskRepository.save(openTask(DeletionStep.GRADES));
+
+        deletionWorker.processOpenTasks();
+        assertThat(nextAttemptIn(task)).isCloseTo(RETRY_BACKOFF, Duration.ofSeconds(5));
+
+        makeDue(task);
+        deletionWorker.processOpenTasks();
+        assertThat(nextAttemptIn(task)).isCloseTo(RETRY_BACKOFF.multipliedBy(2), Duration.ofSeconds(5));
+
+        makeDue(task);
+        deletionWorker.processOpenTasks();
+        DeletionTask stored = deletionTaskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(DeletionStatus.FAILED);
+        assertThat(stored.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void skipsTasksThatAreNotDueYet() {
+        DeletionTask task = openTask(DeletionStep.GRADES);
+        task.setNextAttemptAt(LocalDateTime.now().plusMinutes(1));
+        deletionTaskRepository.save(task);
+
+        deletionWorker.processOpenTasks();
+
+        verifyNoInteractions(gradeService);
+        assertThat(deletionTaskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(DeletionStatus.PENDING);
+    }
+
+    @Test
+    void leavesTasksClaimedByAnotherInstanceAlone() {
+        DeletionTask task = openTask(DeletionStep.GRADES);
+        task.setStatus(DeletionStatus.RUNNING);
+        task.setLeaseUntil(LocalDateTime.now().plusMinutes(1));
+        deletionTaskRepository.save(task);
+
+        deletionWorker.processOpenTasks();
+
+        verifyNoInteractions(gradeService);
+    }
+
+    @Test
+    void resumesAnAbandonedTaskFromItsStepOnceTheLeaseRunsOut() {
+        when(gradeService.deleteGradeBatchByStudentId("user-1", 100)).thenReturn(100, 20, 0);
+        when(enrollmentService.deleteBatchByStudentId("user-1", 100)).thenReturn(3, 0);
+        DeletionTask task = openTask(DeletionStep.GRADES);
+        task.setStatus(DeletionStatus.RUNNING);
+        task.setLeaseUntil(LocalDateTime.now().minusSeconds(1));
+        deletionTaskRepository.save(task);
+
+        deletionWorker.processOpenTasks();
+
+        DeletionTask stored = deletionTaskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(DeletionStatus.COMPLETED);
+        assertThat(stored.getStep()).isNull();
+        assertThat(stored.getDeletedCount()).isEqualTo(123);
+        assertThat(stored.getLeaseUntil()).isNull();
+        verify(userRepository, never()).deleteById(anyString());
+    }
+
+    @Test
+    void claimsATaskOnlyOnce() {
+        DeletionTask task = deletionTaskRepository.save(openTask(DeletionStep.GRADES));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(deletionTaskRepository.claim(task.getId(), now, now.plus(LEASE))).isPresent();
+        assertThat(deletionTaskRepository.claim(task.getId(), now, now.plus(LEASE))).isEmpty();
+        assertThat(deletionTaskRepository.claim(task.getId(), now.plus(LEASE), now.plus(LEASE.multipliedBy(2)))).isPresent();
+    }
+
+    private Duration nextAttemptIn(DeletionTask task) {
+        DeletionTask stored = deletionTaskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(DeletionStatus.PENDING);
+        return Duration.between(LocalDateTime.now(), stored.getNextAttemptAt());
+    }
+
+    private void makeDue(DeletionTask task) {
+        DeletionTask stored = deletionTaskRepository.findById(task.getId()).orElseThrow();
+        stored.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        deletionTaskRepository.save(stored);
+    }
+
+    private static DeletionTask openTask(DeletionStep step) {
+        DeletionTask task = new DeletionTask(DeletionTarget.USER, "user-1");
+        task.setStep(step);
+        return task;
+    }
+}
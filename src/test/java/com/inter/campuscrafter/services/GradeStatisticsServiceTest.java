@@ -0,0 +1,172 @@
+package com.inter.campuscrafter.services;
+
+import com.inter.campuscrafter.entities.Assignment;
+import com.inter.campuscrafter.entities.Grade;
+import com.inter.campuscrafter.entities.GradeStatistics;
+import com.inter.campuscrafter.repositories.memory.InMemoryGradeRepository;
+import com.inter.campuscrafter.repositories.memory.InMemoryGradeStatisticsRepository;
+import com.inter.campuscrafter.responses.GradeStatisticsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GradeStatisticsServiceTest {
+    private static final String COURSE = "course-1";
+
+    private final InMemoryGradeStatisticsRepository gradeStatisticsRepository = new InMemoryGradeStatisticsRepository();
+    private final InMemoryGradeRepository gradeRepository = new InMemoryGradeRepository();
+    private final AssignmentService assignmentService = mock(AssignmentService.class);
+    private final EnrollmentService enrollmentService = mock(EnrollmentService.class);
+    private final GradeStatisticsService gradeStatisticsService = new GradeStatisticsService(gradeStatisticsRepository,
+            gradeRepository, assignmentService, enrollmentService);
+
+    private Assignment essay;
+    private Assignment quiz;
+
+    @BeforeEach
+    void createAssignments() {
+        essay = assignment("essay", 10);
+        quiz = assignment("quiz", 20);
+        when(enrollmentService.countEnrollments(COURSE)).thenReturn(4L);
+    }
+
+    @Test
+    void addsGradesToTheAssignmentAndTheCourse() {
+        add(essay, "student-1", 5);
+        add(essay, "student-2", 10);
+        add(quiz, "student-1", 4);
+
+        GradeStatisticsResponse assignment = gradeStatisticsService.getAssignmentStatistics(essay);
+        assertThat(assignment.getCount()).isEqualTo(2);
+        assertThat(assignment.getMean()).isEqualTo(7.5);
+        assertThat(assignment.getStandardDeviation()).isEqualTo(2.5);
+        assertThat(assignment.getMin()).isEqualTo(5.0);
+        assertThat(assignment.getMax()).isEqualTo(10.0);
+        assertThat(assignment.getCompletionRate()).isEqualTo(0.5);
+        assertThat(counts(assignment)).containsExactly(0L, 0L, 0L, 0L, 0L, 1L, 0L, 0L, 0L, 1L);
+        assertThat(assignment.getHistogram().get(5).getFrom()).isEqualTo(5.0);
+
+        GradeStatisticsResponse course = gradeStatisticsService.getCourseStatistics(COURSE);
+        assertThat(course.getCount()).isEqualTo(3);
+        assertThat(course.getMean()).isCloseTo(170.0 / 3, within(1e-9));
+        assertThat(course.getMin()).isEqualTo(20.0);
+        assertThat(course.getMax()).isEqualTo(100.0);
+        assertThat(counts(course)).containsExactly(0L, 0L, 1L, 0L, 0L, 1L, 0L, 0L, 0L, 1L);
+    }
+
+    @Test
+    void removesGradesAndLooksUpTheRangeAgain() {
+        add(essay, "student-1", 3);
+        add(essay, "student-2", 6);
+        Grade highest = add(essay, "student-3", 9);
+
+        gradeRepository.deleteById(highest.getId());
+        gradeStatisticsService.recordRemoved(highest);
+
+        GradeStatisticsResponse assignment = gradeStatisticsService.getAssignmentStatistics(essay);
+        assertThat(assignment.getCount()).isEqualTo(2);
+        assertThat(assignment.getMean()).isEqualTo(4.5);
+        assertThat(assignment.getMax()).isEqualTo(6.0);
+        assertThat(counts(assignment)).containsExactly(0L, 0L, 0L, 1L, 0L, 0L, 1L, 0L, 0L, 0L);
+        assertThat(gradeStatisticsService.getCourseStatistics(COURSE).getMax()).isEqualTo(60.0);
+    }
+
+    @Test
+    void removingTheLastGradeLeavesEmptyStatistics() {
+        Grade only = add(essay, "student-1", 7);
+
+        gradeRepository.deleteById(only.getId());
+        gradeStatisticsService.recordRemoved(only);
+
+        GradeStatisticsResponse assignment = gradeStatisticsService.getAssignmentStatistics(essay);
+        assertThat(assignment.getCount()).isZero();
+        assertThat(assignment.getMean()).isNull();
+        assertThat(assignment.getMin()).isNull();
+        assertThat(counts(assignment)).containsOnly(0L);
+    }
+
+    @Test
+    void recomputeReplacesDriftedStatistics() {
+        add(essay, "student-1", 5);
+        add(essay, "student-2", 10);
+        add(quiz, "student-1", 4);
+        GradeStatisticsResponse expectedAssignment = gradeStatisticsService.getAssignmentStatistics(essay);
+        GradeStatisticsResponse expectedCourse = gradeStatisticsService.getCourseStatistics(COURSE);
+
+        GradeStatistics drifted = gradeStatisticsRepository.findById(essay.getId()).orElseThrow();
+        drifted.setCount(-3);
+        drifted.setHistogram(Map.of("50", -1L));
+        gradeStatisticsRepository.save(drifted);
+        gradeStatisticsRepository.deleteById(COURSE);
+
+        gradeStatisticsService.recompute(List.of(essay.getId()));
+
+        assertThat(gradeStatisticsService.getAssignmentStatistics(essay)).isEqualTo(expectedAssignment);
+        assertThat(gradeStatisticsService.getCourseStatistics(COURSE)).isEqualTo(expectedCourse);
+    }
+
+    @Test
+    void recomputeMovesGradesToTheBucketsOfANewMaxScore() {
+        add(essay, "student-1", 5);
+        add(essay, "student-2", 9);
+
+        essay.setMaxScore(20);
+        gradeStatisticsService.recompute(List.of(essay.getId()));
+
+        GradeStatisticsResponse assignment = gradeStatisticsService.getAssignmentStatistics(essay);
+        assertThat(counts(assignment)).containsExactly(0L, 0L, 1L, 0L, 1L, 0L, 0L, 0L, 0L, 0L);
+        assertThat(assignment.getHistogram().get(9).getTo()).isEqualTo(20.0);
+
+        GradeStatisticsResponse course = gradeStatisticsService.getCourseStatistics(COURSE);
+        assertThat(course.getMean()).isCloseTo(35.0, within(1e-9));
+        assertThat(course.getMin()).isEqualTo(25.0);
+        assertThat(course.getMax()).isEqualTo(45.0);
+    }
+
+    @Test
+    void deletingAnAssignmentTakesItOutOfTheCourse() {
+        add(essay, "student-1", 5);
+        add(quiz, "student-1", 20);
+
+        gradeStatisticsService.deleteAssignmentStatistics(essay);
+
+        assertThat(gradeStatisticsRepository.findById(essay.getId())).isEmpty();
+        GradeStatisticsResponse course = gradeStatisticsService.getCourseStatistics(COURSE);
+        assertThat(course.getCount()).isEqualTo(1);
+        assertThat(course.getMean()).isEqualTo(100.0);
+        assertThat(course.getMin()).isEqualTo(100.0);
+    }
+
+    private Grade add(Assignment assignment, String studentId, int score) {
+        Grade grade = new Grade();
+        grade.setStudentId(studentId);
+        grade.setAssignmentId(assignment.getId());
+        grade.setScore(score);
+
+        return gradeStatisticsService.recordWrite(assignment.getId(), () -> {
+            Grade saved = gradeRepository.save(grade);
+            gradeStatisticsService.recordAdded(saved);
+            return saved;
+        });
+    }
+
+    private Assignment assignment(String id, int maxScore) {
+        Assignment assignment = new Assignment();
+        assignment.setId(id);
+        assignment.setCourseId(COURSE);
+        assignment.setMaxScore(maxScore);
+        when(assignmentService.getAssignmentById(id)).thenReturn(assignment);
+        return assignment;
+    }
+
+    private static List<Long> counts(GradeStatisticsResponse response) {
+        return response.getHistogram().stream().map(GradeStatisticsResponse.Bucket::getCount).toList();
+    }
+}